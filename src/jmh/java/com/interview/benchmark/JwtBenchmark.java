@@ -0,0 +1,82 @@
+package com.interview.benchmark;
+
+import com.interview.security.jwt.JwtAuthenticationManager;
+import com.interview.security.jwt.JwtServerAuthenticationConverter;
+import com.interview.security.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing and the three steps of authenticating a request: pulling the
+ * bearer token out of the exchange, verifying it, and building the authentication.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationManager authenticationManager;
+    private JwtServerAuthenticationConverter converter;
+    private String token;
+    private MockServerWebExchange exchange;
+    private Authentication credentials;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "mySecretKey1234567890123456789012345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400L);
+        authenticationManager = new JwtAuthenticationManager(jwtUtil);
+        converter = new JwtServerAuthenticationConverter();
+        token = jwtUtil.generateToken("john.doe@company.com", List.of("USER", "ADMIN"));
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/users/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        credentials = new UsernamePasswordAuthenticationToken(token, token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("john.doe@company.com", List.of("USER", "ADMIN"));
+    }
+
+    // The same calls JwtAuthenticationManager makes: signature check, then both claims
+    @Benchmark
+    public List<String> verifyToken() {
+        if (!jwtUtil.isTokenValid(token)) {
+            throw new IllegalStateException("Benchmark token rejected");
+        }
+        jwtUtil.getUsernameFromToken(token);
+        return jwtUtil.getRolesFromToken(token);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return authenticationManager.authenticate(credentials).block();
+    }
+
+    @Benchmark
+    public Authentication convert() {
+        return converter.convert(exchange).block();
+    }
+}
\ No newline at end of file
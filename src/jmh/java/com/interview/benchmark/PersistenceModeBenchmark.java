@@ -0,0 +1,89 @@
+package com.interview.benchmark;
+
+import com.interview.SpringReactiveDemoApplication;
+import com.interview.model.UserSummary;
+import com.interview.security.dto.UserWithRoles;
+import com.interview.security.service.RoleService;
+import com.interview.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The same service calls under R2DBC and under JDBC on a bounded thread pool
+ * ({@code app.persistence.mode}), with several callers at once so pool and
+ * scheduler contention show up.
+ *
+ * Reports throughput and the latency distribution; add {@code -prof gc} for the
+ * allocation rate per call, e.g.
+ * {@code mvn verify -Pjmh -Djmh.args="PersistenceMode -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class PersistenceModeBenchmark {
+
+    @Param({"r2dbc", "jdbc"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private RoleService roleService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(SpringReactiveDemoApplication.class).run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.interview=WARN",
+                "--logging.level.org.springframework.r2dbc=WARN",
+                "--logging.level.io.r2dbc.h2=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--app.outbox.poll-interval=1h",
+                "--app.monitoring.executor-lag.enabled=false",
+                "--app.persistence.mode=" + mode);
+        userService = context.getBean(UserService.class);
+        roleService = context.getBean(RoleService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserSummary getUserById() {
+        return userService.getUserById(1L).block();
+    }
+
+    @Benchmark
+    public List<UserSummary> searchUsers() {
+        return userService.searchUsersByName("J").collectList().block();
+    }
+
+    @Benchmark
+    public List<UserWithRoles> getUsersWithRoles() {
+        return roleService.getUsersWithRoles(0, 20).collectList().block();
+    }
+}
\ No newline at end of file
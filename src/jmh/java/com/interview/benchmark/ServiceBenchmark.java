@@ -0,0 +1,100 @@
+package com.interview.benchmark;
+
+import com.interview.SpringReactiveDemoApplication;
+import com.interview.dto.UserBatchResponse;
+import com.interview.model.UserSummary;
+import com.interview.security.dto.UserWithRoles;
+import com.interview.security.model.Role;
+import com.interview.security.service.RoleService;
+import com.interview.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserService} and {@link RoleService} pipelines end to end, against the
+ * application's in-memory H2 database and its seed data.
+ *
+ * The whole application context is started once per fork; SQL logging, the outbox
+ * poller and the lag monitor are turned off so they don't skew the numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final List<Long> BATCH_IDS = List.of(1L, 2L, 3L, 4L, 5L, 999L);
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private RoleService roleService;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        // Passed as arguments so they take precedence over application.yml
+        context = new SpringApplicationBuilder(SpringReactiveDemoApplication.class).run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.interview=WARN",
+                "--logging.level.org.springframework.r2dbc=WARN",
+                "--logging.level.io.r2dbc.h2=WARN",
+                "--logging.level.org.springframework.security=WARN",
+                "--app.outbox.poll-interval=1h",
+                "--app.monitoring.executor-lag.enabled=false");
+        userService = context.getBean(UserService.class);
+        roleService = context.getBean(RoleService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserSummary getUserById() {
+        return userService.getUserById(1L).block();
+    }
+
+    @Benchmark
+    public UserBatchResponse getUsersByIds() {
+        return userService.getUsersByIds(BATCH_IDS).block();
+    }
+
+    @Benchmark
+    public List<UserSummary> getUsersByDepartment() {
+        return userService.getUsersByDepartment("Engineering").collectList().block();
+    }
+
+    @Benchmark
+    public List<Role> getAllRoles() {
+        return roleService.getAllRoles().collectList().block();
+    }
+
+    @Benchmark
+    public List<Role> getUserRoles() {
+        return roleService.getUserRoles(1L).collectList().block();
+    }
+
+    @Benchmark
+    public List<UserWithRoles> getUsersWithRoles() {
+        return roleService.getUsersWithRoles(0, 20).collectList().block();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.interview.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.R2dbcTimeoutException;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+import reactor.pool.PoolAcquirePendingLimitException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long callers wait to acquire a connection from a {@link ConnectionPool}.
+ *
+ * Exposed as the {@code r2dbc.pool.acquire} timer, tagged with the pool name and
+ * the outcome ({@code success}, {@code timeout}, {@code rejected}, {@code error}).
+ * Implements {@link Wrapped} so Boot's pool gauges still find the underlying pool.
+ */
+public class AcquireTimingConnectionFactory implements ConnectionFactory, Wrapped<ConnectionPool> {
+
+    private final ConnectionPool pool;
+    private final Timer success;
+    private final Timer timeout;
+    private final Timer rejected;
+    private final Timer error;
+
+    public AcquireTimingConnectionFactory(ConnectionPool pool, String name, MeterRegistry meterRegistry) {
+        this.pool = pool;
+        this.success = timer(name, "success", meterRegistry);
+        this.timeout = timer(name, "timeout", meterRegistry);
+        this.rejected = timer(name, "rejected", meterRegistry);
+        this.error = timer(name, "error", meterRegistry);
+    }
+
+    private static Timer timer(String name, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("r2dbc.pool.acquire")
+                .description("Time spent waiting for a pooled connection")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                    .doOnSuccess(connection -> record(success, start))
+                    .doOnError(failure -> record(outcomeOf(failure), start));
+        });
+    }
+
+    private Timer outcomeOf(Throwable failure) {
+        // max-acquire-time elapsed
+        if (failure instanceof R2dbcTimeoutException) {
+            return timeout;
+        }
+        // Raised immediately by reactor-pool when max-pending-acquire is exceeded
+        if (failure instanceof PoolAcquirePendingLimitException
+                || failure.getCause() instanceof PoolAcquirePendingLimitException) {
+            return rejected;
+        }
+        return error;
+    }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionPool unwrap() {
+        return pool;
+    }
+
+    public void dispose() {
+        pool.dispose();
+    }
+}
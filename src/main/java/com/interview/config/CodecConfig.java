@@ -0,0 +1,162 @@
+package com.interview.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.reactive.accept.HeaderContentTypeResolver;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registers binary Jackson codecs next to the default JSON codec.
+ *
+ * - CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile})
+ *   are selected through the {@code Accept} / {@code Content-Type} headers
+ * - JSON stays the default when the client does not ask for a specific type;
+ *   wildcard Accept types such as {@code application/*} count as JSON
+ * - Both mappers come from the Boot-configured builder, so modules and features
+ *   match the JSON mapper
+ *
+ * The same codec configurer backs annotated controllers and router functions.
+ */
+@Configuration
+public class CodecConfig implements WebFluxConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    /**
+     * Media types the API can produce, in preference order (JSON first).
+     */
+    public static final List<MediaType> PRODUCIBLE_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private static final HeaderContentTypeResolver HEADER_RESOLVER = new HeaderContentTypeResolver();
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public CodecConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        ObjectMapper cborMapper = mapperBuilder().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = mapperBuilder().factory(new SmileFactory()).build();
+
+        // Mime types must be passed explicitly: without them the codecs fall back to JSON's
+        configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper, MediaType.APPLICATION_CBOR));
+        configurer.customCodecs().register(new CborEncoder(cborMapper));
+        configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper, APPLICATION_SMILE));
+        configurer.defaultCodecs().jackson2SmileEncoder(new SmileEncoder(smileMapper));
+    }
+
+    @Override
+    public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+        // Custom codecs are ordered ahead of the default JSON codec, so a wildcard
+        // (no Accept header, */*, application/*) would otherwise pick CBOR
+        builder.resolver(exchange -> preferJson(HEADER_RESOLVER.resolveMediaTypes(exchange)));
+    }
+
+    private Jackson2ObjectMapperBuilder mapperBuilder() {
+        // The Boot builder bean is prototype-scoped; fall back to a plain one outside Boot
+        return objectMapperBuilder.getIfAvailable(Jackson2ObjectMapperBuilder::new);
+    }
+
+    /**
+     * Picks the response media type for router functions, which (unlike annotated
+     * controllers) do not negotiate when the handler sets no content type.
+     */
+    public static MediaType negotiate(List<MediaType> acceptable) {
+        List<MediaType> sorted = preferJson(acceptable);
+        MimeTypeUtils.sortBySpecificity(sorted);
+        for (MediaType accepted : sorted) {
+            for (MediaType producible : PRODUCIBLE_MEDIA_TYPES) {
+                if (accepted.isCompatibleWith(producible)) {
+                    return producible;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Replaces wildcards that cover JSON with JSON (keeping their quality), so the
+     * binary formats are only chosen when a client names them explicitly.
+     */
+    static List<MediaType> preferJson(List<MediaType> acceptable) {
+        List<MediaType> preferred = new ArrayList<>(acceptable.size());
+        for (MediaType accepted : acceptable) {
+            boolean wildcard = accepted.isWildcardType() || accepted.isWildcardSubtype();
+            preferred.add(wildcard && accepted.includes(MediaType.APPLICATION_JSON)
+                    ? new MediaType(MediaType.APPLICATION_JSON, accepted.getParameters())
+                    : accepted);
+        }
+        if (preferred.isEmpty()) {
+            preferred.add(MediaType.APPLICATION_JSON);
+        }
+        return preferred;
+    }
+
+    /**
+     * Writes multi-value bodies as a single array value. The stock CBOR encoder
+     * rejects streams and the stock Smile encoder frames them with JSON brackets.
+     */
+    static class CborEncoder extends Jackson2CborEncoder {
+
+        CborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            return collect(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, valueType(inputStream, elementType), mimeType, hints))
+                    .flux();
+        }
+    }
+
+    static class SmileEncoder extends Jackson2SmileEncoder {
+
+        SmileEncoder(ObjectMapper mapper) {
+            super(mapper, APPLICATION_SMILE);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            return collect(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, valueType(inputStream, elementType), mimeType, hints))
+                    .flux();
+        }
+    }
+
+    private static Mono<?> collect(Publisher<?> inputStream) {
+        return (inputStream instanceof Mono<?> mono) ? mono : Flux.from(inputStream).collectList();
+    }
+
+    private static ResolvableType valueType(Publisher<?> inputStream, ResolvableType elementType) {
+        return (inputStream instanceof Mono) ? elementType : ResolvableType.forClassWithGenerics(List.class, elementType);
+    }
+}
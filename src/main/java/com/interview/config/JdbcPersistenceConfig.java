@@ -0,0 +1,87 @@
+package com.interview.config;
+
+import com.interview.repository.jdbc.JdbcOutboxRepository;
+import com.interview.repository.jdbc.JdbcReactiveTransactionManager;
+import com.interview.repository.jdbc.JdbcRoleRepository;
+import com.interview.repository.jdbc.JdbcUserRepository;
+import com.interview.repository.jdbc.JdbcUserRoleRepository;
+import com.interview.repository.jdbc.ReactiveJdbc;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Blocking JDBC persistence on a bounded thread pool, as an alternative to R2DBC
+ * ({@code app.persistence.mode=jdbc}).
+ *
+ * The JDBC repositories and transaction manager are {@code @Primary}, so
+ * {@code UserService}, {@code AuthService}, {@code RoleService} and the outbox
+ * dispatcher keep their reactive APIs and switch over unchanged; each repository
+ * call runs on one of pool-size worker threads with a connection from a Hikari pool
+ * of the same size, so no call waits for a connection once it has a thread.
+ *
+ * The pool points at the same database as R2DBC, which still creates the schema
+ * and serves the scheduled-notification timer. Read replicas and sharding are
+ * R2DBC-only.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.persistence", name = "mode", havingValue = "jdbc")
+public class JdbcPersistenceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource jdbcDataSource(@Value("${app.persistence.jdbc.url}") String url,
+                                           @Value("${spring.r2dbc.username:}") String username,
+                                           @Value("${spring.r2dbc.password:}") String password,
+                                           @Value("${app.persistence.jdbc.pool-size:20}") int poolSize,
+                                           @Value("${app.sharding.shard-urls:}") String shardUrls) {
+        if (!shardUrls.isBlank()) {
+            throw new IllegalStateException("app.persistence.mode=jdbc does not support app.sharding.shard-urls");
+        }
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("jdbc");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(poolSize);
+        return new HikariDataSource(config);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ReactiveJdbc reactiveJdbc(HikariDataSource jdbcDataSource) {
+        return new ReactiveJdbc(jdbcDataSource, ReactiveJdbc.newScheduler(jdbcDataSource.getMaximumPoolSize()));
+    }
+
+    @Bean
+    @Primary
+    public JdbcReactiveTransactionManager jdbcTransactionManager(ReactiveJdbc reactiveJdbc) {
+        return new JdbcReactiveTransactionManager(reactiveJdbc);
+    }
+
+    @Bean
+    @Primary
+    public JdbcUserRepository jdbcUserRepository(ReactiveJdbc reactiveJdbc) {
+        return new JdbcUserRepository(reactiveJdbc);
+    }
+
+    @Bean
+    @Primary
+    public JdbcRoleRepository jdbcRoleRepository(ReactiveJdbc reactiveJdbc) {
+        return new JdbcRoleRepository(reactiveJdbc);
+    }
+
+    @Bean
+    @Primary
+    public JdbcUserRoleRepository jdbcUserRoleRepository(ReactiveJdbc reactiveJdbc) {
+        return new JdbcUserRoleRepository(reactiveJdbc);
+    }
+
+    @Bean
+    @Primary
+    public JdbcOutboxRepository jdbcOutboxRepository(ReactiveJdbc reactiveJdbc) {
+        return new JdbcOutboxRepository(reactiveJdbc);
+    }
+}
\ No newline at end of file
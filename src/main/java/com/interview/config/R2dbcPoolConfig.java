@@ -0,0 +1,126 @@
+package com.interview.config;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the application's pooled {@link ConnectionFactory}: a primary pool and
+ * optional read replica pools behind a {@link ReadWriteRoutingConnectionFactory}.
+ *
+ * Standard sizing, timeout and validation settings come from
+ * {@code spring.r2dbc.pool.*}. On top of what Boot's auto-configured pool offers:
+ * - {@code app.r2dbc.pool.max-pending-acquire} bounds the acquire queue, so a
+ *   saturated pool rejects new callers immediately instead of piling them up
+ * - {@code app.r2dbc.pool.background-eviction-interval} evicts idle and
+ *   expired connections in the background instead of only on acquire
+ * - acquire latency is recorded as the {@code r2dbc.pool.acquire} timer
+ *
+ * Active, idle and pending gauges ({@code r2dbc.pool.*}) are still published
+ * by Boot's pool metrics, which unwrap the timing decorator. Replica pools are
+ * not beans and are bound here.
+ *
+ * Replicas are listed in {@code app.r2dbc.replica-urls} and share the primary's
+ * credentials and pool settings. With none configured everything uses the primary.
+ *
+ * Extra user shards are listed in {@code app.sharding.shard-urls}; when present
+ * the primary (with its replicas) becomes shard 0 of a
+ * {@link ShardRoutingConnectionFactory}. See {@link ShardingConfig}.
+ */
+@Configuration
+public class R2dbcPoolConfig {
+
+    @Value("${app.r2dbc.pool.max-pending-acquire:256}")
+    private int maxPendingAcquire;
+
+    @Value("${app.r2dbc.pool.background-eviction-interval:30s}")
+    private Duration backgroundEvictionInterval;
+
+    @Value("${app.r2dbc.replica-urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.sharding.shard-urls:}")
+    private List<String> shardUrls;
+
+    @Bean(destroyMethod = "dispose")
+    public AcquireTimingConnectionFactory primaryConnectionFactory(R2dbcProperties properties) {
+        return new AcquireTimingConnectionFactory(createPool(properties, properties.getUrl(), "primary"), "primary",
+                Metrics.globalRegistry);
+    }
+
+    @Bean
+    @Primary
+    public ConnectionFactory connectionFactory(AcquireTimingConnectionFactory primaryConnectionFactory,
+                                               R2dbcProperties properties) {
+        List<AcquireTimingConnectionFactory> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            replicas.add(createMeteredPool(properties, url,
+                    ReadWriteRoutingConnectionFactory.replicaKey(replicas.size())));
+        }
+        ReadWriteRoutingConnectionFactory primary = new ReadWriteRoutingConnectionFactory(primaryConnectionFactory, replicas);
+        if (shardUrls.isEmpty()) {
+            return primary;
+        }
+        // Not a bean of its own once nested, so initialize it here
+        primary.afterPropertiesSet();
+        List<AcquireTimingConnectionFactory> shards = new ArrayList<>();
+        for (String url : shardUrls) {
+            shards.add(createMeteredPool(properties, url, "shard-" + (shards.size() + 1)));
+        }
+        return new ShardRoutingConnectionFactory(primary, shards);
+    }
+
+    @Bean
+    public R2dbcTransactionManager transactionManager(ConnectionFactory connectionFactory) {
+        return new RoutingR2dbcTransactionManager(connectionFactory);
+    }
+
+    private AcquireTimingConnectionFactory createMeteredPool(R2dbcProperties properties, String url, String name) {
+        ConnectionPool pool = createPool(properties, url, name);
+        new ConnectionPoolMetrics(pool, name, Tags.empty()).bindTo(Metrics.globalRegistry);
+        return new AcquireTimingConnectionFactory(pool, name, Metrics.globalRegistry);
+    }
+
+    /**
+     * Creates a pool for {@code url} with the configured credentials and shared pool settings.
+     */
+    ConnectionPool createPool(R2dbcProperties properties, String url, String name) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(url)
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+
+        R2dbcProperties.Pool pool = properties.getPool();
+        PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(name)
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .minIdle(pool.getMinIdle())
+                .backgroundEvictionInterval(backgroundEvictionInterval)
+                .customizer(poolBuilder -> poolBuilder.maxPendingAcquire(maxPendingAcquire));
+        map.from(pool.getMaxIdleTime()).to(builder::maxIdleTime);
+        map.from(pool.getMaxLifeTime()).to(builder::maxLifeTime);
+        map.from(pool.getMaxAcquireTime()).to(builder::maxAcquireTime);
+        map.from(pool.getMaxCreateConnectionTime()).to(builder::maxCreateConnectionTime);
+        map.from(pool.getMaxValidationTime()).to(builder::maxValidationTime);
+        map.from(pool.getValidationQuery()).to(builder::validationQuery);
+        map.from(pool.getValidationDepth()).to(builder::validationDepth);
+        return new ConnectionPool(builder.build());
+    }
+}
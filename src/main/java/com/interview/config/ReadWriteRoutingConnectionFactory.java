@@ -0,0 +1,60 @@
+package com.interview.config;
+
+import com.interview.support.ReadWriteRouting;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections to the primary or, for operations marked read-only through
+ * {@link ReadWriteRouting}, round-robin across the replicas.
+ *
+ * Once a request has used the primary, its later reads also go to the primary,
+ * so a request always sees its own writes. Replication lag across requests is
+ * not hidden.
+ */
+public class ReadWriteRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<AcquireTimingConnectionFactory> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingConnectionFactory(ConnectionFactory primary, List<AcquireTimingConnectionFactory> replicas) {
+        this.replicas = List.copyOf(replicas);
+        Map<String, ConnectionFactory> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            targets.put(replicaKey(i), this.replicas.get(i));
+        }
+        setTargetConnectionFactories(targets);
+        setDefaultTargetConnectionFactory(primary);
+        setLenientFallback(false);
+    }
+
+    static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> {
+            if (!replicas.isEmpty() && ReadWriteRouting.isReplicaEligible(context)) {
+                return Mono.just(replicaKey(Math.floorMod(next.getAndIncrement(), replicas.size())));
+            }
+            ReadWriteRouting.recordPrimaryUse(context);
+            return Mono.just(PRIMARY);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(AcquireTimingConnectionFactory::dispose);
+    }
+}
@@ -0,0 +1,24 @@
+package com.interview.config;
+
+import com.interview.support.ReadWriteRouting;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Scopes read-your-writes tracking to a single HTTP request: after a request
+ * uses the primary database, its remaining reads skip the replicas.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadYourWritesWebFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange).contextWrite(ReadWriteRouting.trackingWrites());
+    }
+}
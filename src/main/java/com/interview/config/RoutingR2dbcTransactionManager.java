@@ -0,0 +1,29 @@
+package com.interview.config;
+
+import com.interview.support.ReadWriteRouting;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lets {@code @Transactional(readOnly = true)} pick a replica.
+ *
+ * The transaction's connection is acquired in {@code doBegin}, before Spring
+ * publishes the read-only flag to the synchronization manager, so the flag is
+ * passed to the routing connection factory through the Reactor context instead.
+ */
+public class RoutingR2dbcTransactionManager extends R2dbcTransactionManager {
+
+    public RoutingR2dbcTransactionManager(ConnectionFactory connectionFactory) {
+        super(connectionFactory);
+    }
+
+    @Override
+    protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                 TransactionDefinition definition) {
+        return super.doBegin(synchronizationManager, transaction, definition)
+                .contextWrite(ReadWriteRouting.markReadOnly(definition.isReadOnly()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.interview.config;
+
+import com.interview.support.Sharding;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes connections to the shard selected with {@link Sharding#onShard}.
+ *
+ * Shard 0 is the primary database (itself possibly split into primary and
+ * replicas); the other shards are plain pools. A transaction stays on the
+ * shard it was started on, so start it inside the shard context.
+ */
+public class ShardRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private final ConnectionFactory shard0;
+    private final List<AcquireTimingConnectionFactory> extraShards;
+
+    public ShardRoutingConnectionFactory(ConnectionFactory shard0, List<AcquireTimingConnectionFactory> extraShards) {
+        this.shard0 = shard0;
+        this.extraShards = List.copyOf(extraShards);
+        Map<Integer, ConnectionFactory> targets = new HashMap<>();
+        targets.put(Sharding.DEFAULT_SHARD, shard0);
+        for (int i = 0; i < this.extraShards.size(); i++) {
+            targets.put(i + 1, this.extraShards.get(i));
+        }
+        setTargetConnectionFactories(targets);
+        setDefaultTargetConnectionFactory(shard0);
+        setLenientFallback(false);
+    }
+
+    public int shardCount() {
+        return extraShards.size() + 1;
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> Mono.just(Sharding.currentShard(context)));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        extraShards.forEach(AcquireTimingConnectionFactory::dispose);
+        if (shard0 instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.interview.config;
+
+import com.interview.repository.UserRepository;
+import com.interview.repository.sharding.ShardInitializer;
+import com.interview.repository.sharding.ShardedRoleRepository;
+import com.interview.repository.sharding.ShardedUserRepository;
+import com.interview.repository.sharding.ShardedUserRoleRepository;
+import com.interview.repository.sharding.ShardedUserTransactions;
+import com.interview.repository.sharding.UserShards;
+import com.interview.security.repository.RoleRepository;
+import com.interview.security.repository.UserRoleRepository;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+
+import java.util.List;
+
+/**
+ * Hash-shards users across the primary database (shard 0) and the databases
+ * in {@code app.sharding.shard-urls}.
+ *
+ * The sharded repositories are {@code @Primary}, so services keep injecting
+ * {@link UserRepository}, {@link UserRoleRepository} and {@link RoleRepository}
+ * unchanged. The Spring Data repositories underneath are selected by bean name.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "shard-urls")
+public class ShardingConfig {
+
+    @Bean
+    public UserShards userShards(@Qualifier("primaryConnectionFactory") ConnectionFactory primaryConnectionFactory,
+                                 @Value("${app.sharding.shard-urls}") List<String> shardUrls) {
+        // Bypasses the routing factory so directory writes never join a caller's shard transaction
+        return new UserShards(DatabaseClient.create(primaryConnectionFactory), shardUrls.size() + 1);
+    }
+
+    @Bean
+    @Primary
+    public ShardedUserRepository shardedUserRepository(@Qualifier("userRepository") UserRepository users,
+                                                       UserShards shards) {
+        return new ShardedUserRepository(users, shards);
+    }
+
+    @Bean
+    @Primary
+    public ShardedUserRoleRepository shardedUserRoleRepository(
+            @Qualifier("userRoleRepository") UserRoleRepository userRoles,
+            @Qualifier("roleRepository") RoleRepository roles,
+            UserShards shards) {
+        return new ShardedUserRoleRepository(userRoles, roles, shards);
+    }
+
+    @Bean
+    @Primary
+    public ShardedRoleRepository shardedRoleRepository(@Qualifier("roleRepository") RoleRepository roles,
+                                                       @Qualifier("userRoleRepository") UserRoleRepository userRoles,
+                                                       UserShards shards) {
+        return new ShardedRoleRepository(roles, userRoles, shards);
+    }
+
+    @Bean
+    @Primary
+    public ShardedUserTransactions shardedUserTransactions(ReactiveTransactionManager transactionManager,
+                                                           UserShards shards) {
+        return new ShardedUserTransactions(transactionManager, shards);
+    }
+
+    @Bean
+    public ShardInitializer shardInitializer(ConnectionFactory connectionFactory, DatabaseClient databaseClient,
+                                             @Qualifier("userRepository") UserRepository users,
+                                             @Qualifier("userRoleRepository") UserRoleRepository userRoles,
+                                             UserShards shards) {
+        return new ShardInitializer(connectionFactory, databaseClient, users, userRoles, shards);
+    }
+}
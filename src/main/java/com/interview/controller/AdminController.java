@@ -4,9 +4,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import com.interview.security.dto.UserWithRoles;
 import com.interview.security.model.Role;
 import com.interview.security.model.UserRole;
 import com.interview.security.service.RoleService;
@@ -17,15 +19,22 @@ import jakarta.validation.Valid;
 @RequestMapping("/api/admin")
 public class AdminController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final RoleService roleService;
 
     public AdminController(RoleService roleService) {
         this.roleService = roleService;
     }
 
+    // Conditional GET keyed on the catalog-wide role version
     @GetMapping("/roles")
-    public Flux<Role> getAllRoles() {
-        return roleService.getAllRoles();
+    public Mono<ResponseEntity<Flux<Role>>> getAllRoles(ServerWebExchange exchange) {
+        return roleService.getCatalogVersion()
+                .map(ETags::forRoleCatalog)
+                .map(etag -> exchange.checkNotModified(etag)
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Flux<Role>>build()
+                        : ResponseEntity.ok().eTag(etag).body(roleService.getAllRoles()));
     }
 
     @GetMapping("/roles/{id}")
@@ -42,9 +51,22 @@ public class AdminController {
                 .onErrorResume(error -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
+    // Conditional GET keyed on the user's role ids plus the catalog version;
+    // a match skips the roles join entirely
     @GetMapping("/users/{userId}/roles")
-    public Flux<Role> getUserRoles(@PathVariable Long userId) {
-        return roleService.getUserRoles(userId);
+    public Mono<ResponseEntity<Flux<Role>>> getUserRoles(@PathVariable Long userId, ServerWebExchange exchange) {
+        return Mono.zip(roleService.getCatalogVersion(), roleService.getUserRoleIds(userId).collectList())
+                .map(tuple -> ETags.forUserRoles(userId, tuple.getT1(), tuple.getT2()))
+                .map(etag -> exchange.checkNotModified(etag)
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<Flux<Role>>build()
+                        : ResponseEntity.ok().eTag(etag).body(roleService.getUserRoles(userId)));
+    }
+
+    // Keyset-paginated users with their roles, replacing one roles call per user
+    @GetMapping("/users-with-roles")
+    public Flux<UserWithRoles> getUsersWithRoles(@RequestParam(defaultValue = "0") long afterId,
+                                                 @RequestParam(defaultValue = "50") int size) {
+        return roleService.getUsersWithRoles(afterId, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
     }
 
     @PostMapping("/users/{userId}/roles/{roleId}")
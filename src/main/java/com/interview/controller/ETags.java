@@ -0,0 +1,28 @@
+package com.interview.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the strong ETag values used for conditional GETs.
+ *
+ * Tags are derived from versions or ids only, so they can be computed from a
+ * narrow query before the response body is loaded.
+ */
+final class ETags {
+
+    private ETags() {}
+
+    static String forUser(Long id, Long version) {
+        return "\"user-" + id + "-v" + version + "\"";
+    }
+
+    static String forRoleCatalog(Long catalogVersion) {
+        return "\"roles-v" + catalogVersion + "\"";
+    }
+
+    static String forUserRoles(Long userId, Long catalogVersion, List<Long> roleIds) {
+        return "\"user-" + userId + "-roles-v" + catalogVersion + "-"
+                + roleIds.stream().map(String::valueOf).collect(Collectors.joining(".")) + "\"";
+    }
+}
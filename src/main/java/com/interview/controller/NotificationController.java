@@ -0,0 +1,35 @@
+package com.interview.controller;
+
+import com.interview.model.ScheduledNotification;
+import com.interview.service.notification.NotificationScheduler;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/admin/notifications")
+public class NotificationController {
+
+    private final NotificationScheduler notificationScheduler;
+
+    public NotificationController(NotificationScheduler notificationScheduler) {
+        this.notificationScheduler = notificationScheduler;
+    }
+
+    @PostMapping("/scheduled")
+    public Mono<ResponseEntity<ScheduledNotification>> schedule(@Valid @RequestBody ScheduledNotification notification) {
+        return notificationScheduler.schedule(notification)
+                .map(scheduled -> ResponseEntity.status(HttpStatus.CREATED).body(scheduled))
+                .onErrorResume(IllegalArgumentException.class, error -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @DeleteMapping("/scheduled/{id}")
+    public Mono<ResponseEntity<Void>> cancel(@PathVariable Long id) {
+        return notificationScheduler.cancel(id)
+                .map(cancelled -> cancelled
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+}
\ No newline at end of file
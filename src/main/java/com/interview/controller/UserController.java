@@ -1,11 +1,17 @@
 package com.interview.controller;
 
+import com.interview.dto.UserBatchRequest;
+import com.interview.dto.UserBatchResponse;
 import com.interview.model.User;
+import com.interview.model.UserSummary;
 import com.interview.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,36 +24,69 @@ public class UserController {
     
     private final UserService userService;
     
+    @Value("${users.batch-get.max-ids:500}")
+    private int maxBatchIds = 500;
+    
+    @Value("${users.batch-get.max-stream-ids:10000}")
+    private int maxStreamIds = 10_000;
+    
     @Autowired
     public UserController(UserService userService) {
         this.userService = userService;
     }
     
     @GetMapping
-    public Flux<User> getAllUsers() {
-        return userService.getAllUsers()
-                .map(this::sanitizeUser);
+    public Flux<UserSummary> getAllUsers() {
+        return userService.getAllUsers();
     }
     
+    // Conditional GET: the ETag comes from the row version, so a matching
+    // If-None-Match is answered with 304 before the row is loaded. A 200 carries the
+    // version of the row actually returned, which may be newer than the one checked
     @GetMapping("/{id}")
-    public Mono<ResponseEntity<User>> getUserById(@PathVariable Long id) {
-        return userService.getUserById(id)
-                .map(user -> ResponseEntity.ok(sanitizeUser(user)))
+    public Mono<ResponseEntity<UserSummary>> getUserById(@PathVariable Long id, ServerWebExchange exchange) {
+        return userService.getUserVersion(id)
+                .map(version -> ETags.forUser(id, version))
+                .flatMap(etag -> exchange.checkNotModified(etag)
+                        ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<UserSummary>build())
+                        : userService.getUserById(id)
+                                .map(user -> ResponseEntity.ok().eTag(ETags.forUser(id, user.version())).body(user)))
                 .onErrorResume(error -> Mono.just(ResponseEntity.notFound().build()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
     
+    // Batch lookup by id list; oversized batches are rejected with 400
+    @PostMapping(value = "/batch-get",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile"})
+    public Mono<ResponseEntity<UserBatchResponse>> getUsersByIds(@Valid @RequestBody UserBatchRequest request) {
+        if (request.getIds().size() > maxBatchIds) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return userService.getUsersByIds(request.getIds())
+                .map(ResponseEntity::ok);
+    }
+    
+    // Streaming variant for larger batches: users are written as NDJSON as each chunk
+    // resolves; missing ids are simply absent from the stream
+    @PostMapping(value = "/batch-get", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<Flux<UserSummary>>> streamUsersByIds(@Valid @RequestBody UserBatchRequest request) {
+        if (request.getIds().size() > maxStreamIds) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return Mono.just(ResponseEntity.ok(userService.streamUsersByIds(request.getIds())));
+    }
+    
     @PostMapping
-    public Mono<ResponseEntity<User>> createUser(@Valid @RequestBody User user) {
+    public Mono<ResponseEntity<UserSummary>> createUser(@Valid @RequestBody User user) {
         return userService.createUser(user)
-                .map(savedUser -> ResponseEntity.status(HttpStatus.CREATED).body(sanitizeUser(savedUser)))
+                .map(savedUser -> ResponseEntity.status(HttpStatus.CREATED).body(UserSummary.from(savedUser)))
                 .onErrorReturn(ResponseEntity.badRequest().build());
     }
     
     @PutMapping("/{id}")
-    public Mono<ResponseEntity<User>> updateUser(@PathVariable Long id, @Valid @RequestBody User user) {
+    public Mono<ResponseEntity<UserSummary>> updateUser(@PathVariable Long id, @Valid @RequestBody User user) {
         return userService.updateUser(id, user)
-                .map(updatedUser -> ResponseEntity.ok(sanitizeUser(updatedUser)))
+                .map(updatedUser -> ResponseEntity.ok(UserSummary.from(updatedUser)))
                 .onErrorReturn(ResponseEntity.notFound().build());
     }
     
@@ -59,15 +98,13 @@ public class UserController {
     }
     
     @GetMapping("/department/{department}")
-    public Flux<User> getUsersByDepartment(@PathVariable String department) {
-        return userService.getUsersByDepartment(department)
-                .map(this::sanitizeUser);
+    public Flux<UserSummary> getUsersByDepartment(@PathVariable String department) {
+        return userService.getUsersByDepartment(department);
     }
     
     @GetMapping("/search")
-    public Flux<User> searchUsers(@RequestParam String name) {
-        return userService.searchUsersByName(name)
-                .map(this::sanitizeUser);
+    public Flux<UserSummary> searchUsers(@RequestParam String name) {
+        return userService.searchUsersByName(name);
     }
     
     @GetMapping("/department/{department}/count")
@@ -79,16 +116,4 @@ public class UserController {
     public Flux<String> getUserEmailsByDepartment(@PathVariable String department) {
         return userService.getUserEmailsByDepartment(department);
     }
-    
-    // Helper method to remove password from response
-    private User sanitizeUser(User user) {
-        User sanitizedUser = new User();
-        sanitizedUser.setId(user.getId());
-        sanitizedUser.setName(user.getName());
-        sanitizedUser.setEmail(user.getEmail());
-        sanitizedUser.setDepartment(user.getDepartment());
-        sanitizedUser.setEnabled(user.isEnabled());
-        // Password is intentionally not set
-        return sanitizedUser;
-    }
 }
\ No newline at end of file
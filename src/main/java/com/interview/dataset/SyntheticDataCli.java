@@ -0,0 +1,28 @@
+package com.interview.dataset;
+
+import com.interview.SpringReactiveDemoApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * Loads a synthetic dataset without starting the web server, then exits.
+ *
+ * Takes the usual Spring arguments; point it at a file database to keep the result,
+ * then start the application on it with schema initialization turned off:
+ *
+ * <pre>
+ * java -Dloader.main=com.interview.dataset.SyntheticDataCli -cp app.jar org.springframework.boot.loader.launch.PropertiesLauncher \
+ *     --spring.r2dbc.url=r2dbc:h2:file:///./target/synthetic --app.synthetic-data.users=2000000
+ * java -jar app.jar --spring.r2dbc.url=r2dbc:h2:file:///./target/synthetic --spring.sql.init.mode=never
+ * </pre>
+ */
+public class SyntheticDataCli {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(SpringReactiveDemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("synthetic-data")
+                .run(args)
+                .close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.interview.dataset;
+
+import com.interview.dataset.SyntheticUserGenerator.SyntheticUser;
+import com.interview.repository.sharding.UserShards;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk-loads {@link SyntheticUserGenerator} users at startup when the
+ * {@code synthetic-data} profile is active (or through {@link SyntheticDataCli}).
+ *
+ * - users are generated lazily and written in batches of {@code batch-size}: one
+ *   batched INSERT for the users, then one for their roles keyed by the generated
+ *   ids, each batch in its own transaction, so memory stays flat however many
+ *   users are loaded
+ * - the password is BCrypt-hashed once and shared by every user, so users can log in
+ *   with it without paying a hash per row at load time
+ * - every user gets USER, admins also get ADMIN
+ * - loading is skipped when the first user of the dataset already exists, so a
+ *   persistent database is not loaded twice
+ *
+ * Loads into the single (unsharded) database only.
+ */
+@Component
+@Profile("synthetic-data")
+public class SyntheticDataLoader implements ApplicationRunner {
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (name, email, password, department, enabled) VALUES ($1, $2, $3, $4, $5)";
+    private static final String INSERT_USER_ROLE = "INSERT INTO user_roles (user_id, role_id) VALUES ($1, $2)";
+    private static final long PROGRESS_EVERY = 100_000;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectProvider<UserShards> shards;
+
+    @Value("${app.synthetic-data.users:1000000}")
+    private long users = 1_000_000;
+
+    @Value("${app.synthetic-data.seed:42}")
+    private long seed = 42;
+
+    @Value("${app.synthetic-data.batch-size:1000}")
+    private int batchSize = 1_000;
+
+    @Value("${app.synthetic-data.password:password}")
+    private String password = "password";
+
+    @Value("${app.synthetic-data.admin-ratio:0.01}")
+    private double adminRatio = 0.01;
+
+    @Value("${app.synthetic-data.disabled-ratio:0.03}")
+    private double disabledRatio = 0.03;
+
+    public SyntheticDataLoader(DatabaseClient databaseClient,
+                               @Qualifier("transactionManager") ReactiveTransactionManager transactionManager,
+                               PasswordEncoder passwordEncoder, ObjectProvider<UserShards> shards) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.shards = shards;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        load().block();
+    }
+
+    /**
+     * Loads the dataset and emits the number of users inserted (0 if it was already there).
+     */
+    public Mono<Long> load() {
+        if (shards.getIfAvailable() != null) {
+            return Mono.error(new IllegalStateException("Synthetic data cannot be loaded into a sharded database"));
+        }
+        SyntheticUserGenerator generator = new SyntheticUserGenerator(seed, adminRatio, disabledRatio);
+        return alreadyLoaded(generator.generate(0).email())
+                .flatMap(present -> {
+                    if (present) {
+                        System.out.println("Synthetic data for seed " + seed + " is already loaded, skipping");
+                        return Mono.just(0L);
+                    }
+                    String hash = passwordEncoder.encode(password);
+                    long started = System.nanoTime();
+                    return roles().flatMap(roles -> Flux.range(0, (int) Math.ceil((double) users / batchSize))
+                            .concatMap(batch -> {
+                                long from = (long) batch * batchSize;
+                                long to = Math.min(from + batchSize, users);
+                                List<SyntheticUser> generated = new ArrayList<>((int) (to - from));
+                                for (long index = from; index < to; index++) {
+                                    generated.add(generator.generate(index));
+                                }
+                                return insert(generated, hash, roles).thenReturn(to);
+                            })
+                            .doOnNext(loaded -> {
+                                if (loaded % PROGRESS_EVERY < batchSize || loaded == users) {
+                                    long elapsedMillis = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+                                    System.out.println("Loaded " + loaded + "/" + users + " synthetic users ("
+                                            + loaded * 1000 / elapsedMillis + " users/s)");
+                                }
+                            })
+                            .last(0L));
+                });
+    }
+
+    private Mono<Boolean> alreadyLoaded(String firstEmail) {
+        return databaseClient.sql("SELECT COUNT(*) FROM users WHERE email = :email")
+                .bind("email", firstEmail)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    private Mono<Void> insert(List<SyntheticUser> batch, String hash, Roles roles) {
+        Mono<Void> work = databaseClient.inConnection(connection -> {
+            Statement users = connection.createStatement(INSERT_USER).returnGeneratedValues("id");
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) {
+                    users.add();
+                }
+                SyntheticUser user = batch.get(i);
+                users.bind(0, user.name())
+                        .bind(1, user.email())
+                        .bind(2, hash)
+                        .bind(3, user.department())
+                        .bind(4, user.enabled());
+            }
+            // One result per row, in binding order
+            return Flux.from(users.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)))
+                    .collectList()
+                    .flatMap(ids -> {
+                        Statement userRoles = connection.createStatement(INSERT_USER_ROLE);
+                        for (int i = 0; i < ids.size(); i++) {
+                            if (i > 0) {
+                                userRoles.add();
+                            }
+                            userRoles.bind(0, ids.get(i)).bind(1, roles.user());
+                            if (batch.get(i).admin()) {
+                                userRoles.add().bind(0, ids.get(i)).bind(1, roles.admin());
+                            }
+                        }
+                        return Flux.from(userRoles.execute()).flatMap(Result::getRowsUpdated).then();
+                    });
+        });
+        return transactionalOperator.transactional(work);
+    }
+
+    private Mono<Roles> roles() {
+        return databaseClient.sql("SELECT id, name FROM roles WHERE name IN ('USER', 'ADMIN')")
+                .map(row -> Map.entry(row.get("name", String.class), row.get("id", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(ids -> new Roles(ids.get("USER"), ids.get("ADMIN")));
+    }
+
+    private record Roles(Long user, Long admin) {
+    }
+}
\ No newline at end of file
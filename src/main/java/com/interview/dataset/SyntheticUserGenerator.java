@@ -0,0 +1,100 @@
+package com.interview.dataset;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic source of realistic-looking users for load and performance testing.
+ *
+ * Every user is derived from the seed and its index alone, so a given seed always
+ * produces the same dataset, in any batch size and in any order of generation.
+ *
+ * Distributions:
+ * - departments follow a Zipf curve: a few large departments, a long tail of small ones
+ * - first and last names are Zipf-weighted too, so name searches hit both very common
+ *   and rare names; surnames are shared across many users
+ * - a small share of users are admins and a small share are disabled
+ *
+ * Emails are {@code first.last.<index>@example.com}, unique for every index.
+ */
+public class SyntheticUserGenerator {
+
+    static final String EMAIL_DOMAIN = "@example.com";
+
+    private static final String[] DEPARTMENTS = {
+            "Engineering", "Sales", "Customer Support", "Marketing", "Operations", "IT", "Finance",
+            "Product", "HR", "Research", "Legal", "Facilities"
+    };
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "David",
+            "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas",
+            "Sarah", "Charles", "Karen", "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Sandra",
+            "Mark", "Ashley", "Steven", "Emily", "Andrew", "Michelle", "Kenji", "Priya", "Mohammed",
+            "Sofia", "Lucas", "Amara", "Mateo", "Ingrid", "Yusuf", "Chloe", "Arjun", "Zofia", "Omar",
+            "Leilani", "Dmitri", "Aiyana", "Tomasz", "Xiomara"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez",
+            "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor",
+            "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez",
+            "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright",
+            "Nguyen", "Patel", "Kim", "Kowalski", "Okafor", "Yamamoto", "Schmidt", "Rossi", "Dubois",
+            "Novak", "Haddad", "Lindqvist", "Castellanos", "Abernathy", "Quispe"
+    };
+
+    private static final double[] DEPARTMENT_WEIGHTS = zipf(DEPARTMENTS.length, 1.1);
+    private static final double[] FIRST_NAME_WEIGHTS = zipf(FIRST_NAMES.length, 0.9);
+    private static final double[] LAST_NAME_WEIGHTS = zipf(LAST_NAMES.length, 1.0);
+
+    // Spreads consecutive indexes across the seed space (the SplittableRandom gamma)
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final double adminRatio;
+    private final double disabledRatio;
+
+    public SyntheticUserGenerator(long seed, double adminRatio, double disabledRatio) {
+        this.seed = seed;
+        this.adminRatio = adminRatio;
+        this.disabledRatio = disabledRatio;
+    }
+
+    public SyntheticUser generate(long index) {
+        SplittableRandom random = new SplittableRandom(seed + index * GOLDEN_GAMMA);
+        String first = FIRST_NAMES[pick(FIRST_NAME_WEIGHTS, random)];
+        String last = LAST_NAMES[pick(LAST_NAME_WEIGHTS, random)];
+        String department = DEPARTMENTS[pick(DEPARTMENT_WEIGHTS, random)];
+        boolean enabled = random.nextDouble() >= disabledRatio;
+        boolean admin = random.nextDouble() < adminRatio;
+        String email = first.toLowerCase(Locale.ROOT) + "." + last.toLowerCase(Locale.ROOT) + "." + index + EMAIL_DOMAIN;
+        return new SyntheticUser(first + " " + last, email, department, enabled, admin);
+    }
+
+    /**
+     * Cumulative Zipf weights for ranks 1..n with exponent {@code s}, normalized to end at 1.
+     */
+    private static double[] zipf(int n, double s) {
+        double[] cumulative = new double[n];
+        double total = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            total += 1 / Math.pow(rank, s);
+            cumulative[rank - 1] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        int found = Arrays.binarySearch(cumulative, random.nextDouble());
+        int index = found >= 0 ? found + 1 : -found - 1;
+        return Math.min(index, cumulative.length - 1);
+    }
+
+    public record SyntheticUser(String name, String email, String department, boolean enabled, boolean admin) {
+    }
+}
\ No newline at end of file
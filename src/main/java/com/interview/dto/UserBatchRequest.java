@@ -0,0 +1,28 @@
+package com.interview.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class UserBatchRequest {
+    
+    @NotEmpty(message = "At least one id is required")
+    private List<@NotNull Long> ids;
+    
+    // Constructors
+    public UserBatchRequest() {}
+    
+    public UserBatchRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
@@ -0,0 +1,11 @@
+package com.interview.dto;
+
+import com.interview.model.UserSummary;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup: users in request order plus the ids that matched no row.
+ */
+public record UserBatchResponse(List<UserSummary> users, List<Long> missingIds) {
+}
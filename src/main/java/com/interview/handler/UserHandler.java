@@ -1,6 +1,8 @@
 package com.interview.handler;
 
+import com.interview.config.CodecConfig;
 import com.interview.model.User;
+import com.interview.model.UserSummary;
 import com.interview.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -21,8 +23,8 @@ public class UserHandler {
     
     public Mono<ServerResponse> getAllUsers(ServerRequest request) {
         return ServerResponse.ok()
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(userService.getAllUsers(), User.class);
+                .contentType(responseType(request))
+                .body(userService.getAllUsers(), UserSummary.class);
     }
     
     public Mono<ServerResponse> getUserById(ServerRequest request) {
@@ -30,7 +32,7 @@ public class UserHandler {
         
         return userService.getUserById(id)
                 .flatMap(user -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
+                        .contentType(responseType(request))
                         .bodyValue(user))
                 .switchIfEmpty(ServerResponse.notFound().build());
     }
@@ -39,8 +41,13 @@ public class UserHandler {
         return request.bodyToMono(User.class)
                 .flatMap(userService::createUser)
                 .flatMap(user -> ServerResponse.ok()
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(user))
+                        .contentType(responseType(request))
+                        .bodyValue(UserSummary.from(user)))
                 .onErrorResume(error -> ServerResponse.badRequest().build());
     }
+    
+    // JSON by default; CBOR or Smile when the client asks for them
+    private MediaType responseType(ServerRequest request) {
+        return CodecConfig.negotiate(request.headers().accept());
+    }
 }
\ No newline at end of file
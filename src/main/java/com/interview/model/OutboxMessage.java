@@ -0,0 +1,90 @@
+package com.interview.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("notification_outbox")
+public class OutboxMessage {
+    
+    public static final String WELCOME = "WELCOME";
+    
+    @Id
+    private Long id;
+    
+    private String type;
+    
+    private String recipient;
+    
+    private LocalDateTime createdAt;
+    
+    // Not claimed before this time; pushed back on every failed attempt
+    private LocalDateTime availableAt;
+    
+    private int attempts;
+    
+    private String claimToken;
+    
+    private LocalDateTime claimedUntil;
+    
+    private String lastError;
+    
+    // Set once attempts are exhausted; failed rows are no longer claimed
+    private LocalDateTime failedAt;
+    
+    // Constructors
+    public OutboxMessage() {}
+    
+    public OutboxMessage(String type, String recipient, LocalDateTime now) {
+        this.type = type;
+        this.recipient = recipient;
+        this.createdAt = now;
+        this.availableAt = now;
+    }
+    
+    public static OutboxMessage welcome(String email) {
+        return new OutboxMessage(WELCOME, email, LocalDateTime.now());
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public String getRecipient() { return recipient; }
+    public void setRecipient(String recipient) { this.recipient = recipient; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getAvailableAt() { return availableAt; }
+    public void setAvailableAt(LocalDateTime availableAt) { this.availableAt = availableAt; }
+    
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    
+    public String getClaimToken() { return claimToken; }
+    public void setClaimToken(String claimToken) { this.claimToken = claimToken; }
+    
+    public LocalDateTime getClaimedUntil() { return claimedUntil; }
+    public void setClaimedUntil(LocalDateTime claimedUntil) { this.claimedUntil = claimedUntil; }
+    
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+    
+    public LocalDateTime getFailedAt() { return failedAt; }
+    public void setFailedAt(LocalDateTime failedAt) { this.failedAt = failedAt; }
+    
+    @Override
+    public String toString() {
+        return "OutboxMessage{" +
+                "id=" + id +
+                ", type='" + type + '\'' +
+                ", recipient='" + recipient + '\'' +
+                ", attempts=" + attempts +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.interview.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pending (not yet sent, not failed) outbox rows: how many, and when the oldest was queued.
+ */
+public record OutboxStats(long depth, LocalDateTime oldestCreatedAt) {
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.interview.model;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("scheduled_notification")
+public class ScheduledNotification {
+    
+    @Id
+    private Long id;
+    
+    @NotBlank(message = "Type is required")
+    private String type;
+    
+    @NotBlank(message = "Recipient is required")
+    @Email(message = "Recipient should be valid")
+    private String recipient;
+    
+    @NotNull(message = "Due time is required")
+    @Future(message = "Due time must be in the future")
+    private LocalDateTime dueAt;
+    
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public ScheduledNotification() {}
+    
+    public ScheduledNotification(String type, String recipient, LocalDateTime dueAt) {
+        this.type = type;
+        this.recipient = recipient;
+        this.dueAt = dueAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public String getRecipient() { return recipient; }
+    public void setRecipient(String recipient) { this.recipient = recipient; }
+    
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    @Override
+    public String toString() {
+        return "ScheduledNotification{" +
+                "id=" + id +
+                ", type='" + type + '\'' +
+                ", recipient='" + recipient + '\'' +
+                ", dueAt=" + dueAt +
+                '}';
+    }
+}
\ No newline at end of file
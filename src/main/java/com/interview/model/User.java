@@ -1,6 +1,8 @@
 package com.interview.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 
 import jakarta.validation.constraints.Email;
@@ -29,6 +31,11 @@ public class User {
     
     private boolean enabled = true;
     
+    // Row version, bumped on every save; backs the ETag of GET /api/users/{id}
+    @Version
+    @JsonIgnore
+    private Long version;
+    
     // Constructors
     public User() {}
     
@@ -64,6 +71,9 @@ public class User {
     public boolean isEnabled() { return enabled; }
     public void setEnabled(boolean enabled) { this.enabled = enabled; }
     
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+    
     @Override
     public String toString() {
         return "User{id=" + id + ", name='" + name + "', email='" + email + 
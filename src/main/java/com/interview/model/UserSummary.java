@@ -0,0 +1,24 @@
+package com.interview.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Immutable read projection of a {@link User} without the password hash.
+ *
+ * Repository queries returning this type select only the listed columns, so the
+ * hash is never fetched from the database or serialized into a response.
+ *
+ * The row version is read with the row, so an ETag built from it always matches
+ * the body it is sent with. It is not part of the response body.
+ */
+public record UserSummary(Long id, String name, String email, String department, boolean enabled,
+                          @JsonIgnore Long version) {
+
+    /**
+     * Builds a summary from a full entity, e.g. for responses to create/update calls.
+     */
+    public static UserSummary from(User user) {
+        return new UserSummary(user.getId(), user.getName(), user.getEmail(),
+                user.getDepartment(), user.isEnabled(), user.getVersion());
+    }
+}
@@ -0,0 +1,199 @@
+package com.interview.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Scannable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.HttpResources;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Watches the Reactor Netty event loops and the parallel and bounded-elastic
+ * schedulers for stalls.
+ *
+ * Every {@code interval} a no-op probe task is queued on each event loop and
+ * scheduler (one at a time: a new probe is only queued once the previous one ran).
+ * The time it waits before running is the executor's lag. When a probe has been
+ * waiting longer than {@code lag-threshold}, the stacks of the executor's threads
+ * are logged once for that stall, while the offending code is still on them.
+ *
+ * Metrics, tagged by {@code executor} ({@code event-loop-N}, {@code parallel},
+ * {@code bounded-elastic}):
+ * - {@code executor.lag}: probe wait time
+ * - {@code executor.queued}: tasks waiting in the executor's queues
+ * - {@code executor.stalls}: probes that crossed the threshold
+ */
+@Component
+public class ExecutorLagMonitor implements SmartLifecycle {
+
+    private final List<Probe> probes = new CopyOnWriteArrayList<>();
+
+    @Value("${app.monitoring.executor-lag.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${app.monitoring.executor-lag.interval:100ms}")
+    private Duration interval = Duration.ofMillis(100);
+
+    @Value("${app.monitoring.executor-lag.lag-threshold:200ms}")
+    private Duration lagThreshold = Duration.ofMillis(200);
+
+    private volatile ScheduledExecutorService ticker;
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (probes.isEmpty()) {
+            // Runs after the web server started, so this is the group it accepted on
+            int index = 0;
+            for (EventExecutor loop : HttpResources.get().onServer(LoopResources.DEFAULT_NATIVE)) {
+                watch("event-loop-" + index++, loop, loop::inEventLoop,
+                        executor -> executor instanceof SingleThreadEventExecutor single ? single.pendingTasks() : 0);
+            }
+            watch("parallel", Schedulers.parallel(), "parallel-");
+            watch("bounded-elastic", Schedulers.boundedElastic(), "boundedElastic-");
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "executor-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::check, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = ticker;
+        if (current != null) {
+            current.shutdownNow();
+        }
+        ticker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ticker != null;
+    }
+
+    void watch(String name, Scheduler scheduler, String threadPrefix) {
+        // Schedulers.parallel() and friends are cached wrappers that don't expose their workers
+        Scheduler actual = scheduler instanceof Supplier<?> cached && cached.get() instanceof Scheduler inner
+                ? inner : scheduler;
+        watch(name, task -> actual.schedule(task), thread -> thread.getName().startsWith(threadPrefix),
+                executor -> Scannable.from(actual).inners()
+                        .mapToInt(worker -> {
+                            Integer buffered = worker.scan(Scannable.Attr.BUFFERED);
+                            return buffered != null ? buffered : 0;
+                        })
+                        .sum());
+    }
+
+    <E extends Executor> void watch(String name, E executor, Predicate<Thread> ownsThread,
+                                    ToDoubleFunction<E> queued) {
+        probes.add(new Probe(name, executor, ownsThread));
+        Gauge.builder("executor.queued", executor, queued)
+                .description("Tasks waiting in the executor's queues")
+                .tag("executor", name)
+                .register(Metrics.globalRegistry);
+    }
+
+    // Runs on the ticker thread, so it keeps working when the watched executors are stuck
+    void check() {
+        long now = System.nanoTime();
+        for (Probe probe : probes) {
+            probe.check(now);
+        }
+    }
+
+    private final class Probe {
+
+        private final String name;
+        private final Executor executor;
+        private final Predicate<Thread> ownsThread;
+        private final Timer lag;
+        private final LongAdder stalls = new LongAdder();
+        // nanoTime the pending probe was queued at, 0 when none is pending
+        private volatile long queuedAt;
+        private volatile boolean sampled;
+
+        private Probe(String name, Executor executor, Predicate<Thread> ownsThread) {
+            this.name = name;
+            this.executor = executor;
+            this.ownsThread = ownsThread;
+            this.lag = Timer.builder("executor.lag")
+                    .description("Time a task waits before an event loop or scheduler runs it")
+                    .tag("executor", name)
+                    .register(Metrics.globalRegistry);
+            FunctionCounter.builder("executor.stalls", stalls, LongAdder::sum)
+                    .description("Probes that waited longer than the lag threshold")
+                    .tag("executor", name)
+                    .register(Metrics.globalRegistry);
+        }
+
+        private void check(long now) {
+            long pendingSince = queuedAt;
+            if (pendingSince != 0) {
+                if (!sampled && now - pendingSince > lagThreshold.toNanos()) {
+                    sampled = true;
+                    logStacks(Duration.ofNanos(now - pendingSince));
+                }
+                return;
+            }
+            sampled = false;
+            queuedAt = now;
+            try {
+                executor.execute(() -> {
+                    long waited = System.nanoTime() - now;
+                    // Stall first, so whoever sees the lag sample also sees its stall
+                    if (waited > lagThreshold.toNanos()) {
+                        stalls.increment();
+                    }
+                    lag.record(waited, TimeUnit.NANOSECONDS);
+                    queuedAt = 0;
+                });
+            } catch (RuntimeException e) {
+                // Shut down or queue full; try again next tick
+                queuedAt = 0;
+            }
+        }
+
+        private void logStacks(Duration stalledFor) {
+            StringBuilder report = new StringBuilder()
+                    .append("Executor ").append(name).append(" has not run a task for ")
+                    .append(stalledFor.toMillis()).append("ms");
+            // Only taken once per stall, so the cost of a full thread dump is acceptable
+            for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+                if (ownsThread.test(entry.getKey())) {
+                    report.append(System.lineSeparator()).append("\"").append(entry.getKey().getName())
+                            .append("\" ").append(entry.getKey().getState());
+                    for (StackTraceElement frame : entry.getValue()) {
+                        report.append(System.lineSeparator()).append("\tat ").append(frame);
+                    }
+                }
+            }
+            System.err.println(report);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.interview.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.interview.HttpRequest")
+@Label("HTTP Request")
+@Category({"Spring Reactive Demo", "Web"})
+@Description("An HTTP exchange, from the first filter until the response completes")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Route")
+    @Description("Matched route template, such as /api/users/{id}")
+    public String route;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Outcome")
+    @Description("success, error or canceled")
+    public String outcome;
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.interview.monitoring;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Emits an {@link HttpRequestEvent} per exchange, so JFR recordings can tie
+ * repository, security and GC activity to the route that caused it. Runs ahead
+ * of the security filters, so token verification is inside the event.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HttpRequestEventFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (!event.isEnabled()) {
+            return chain.filter(exchange);
+        }
+        event.method = exchange.getRequest().getMethod().name();
+        event.begin();
+        return chain.filter(exchange).doFinally(signal -> {
+            // Set by both annotated controllers and router functions
+            PathPattern route = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            event.route = route != null ? route.getPatternString() : "UNKNOWN";
+            event.status = status != null ? status.value() : (signal == SignalType.ON_ERROR ? 500 : 200);
+            // Reactor Netty may cancel the chain once the response is fully written
+            event.outcome = signal == SignalType.CANCEL && exchange.getResponse().isCommitted()
+                    ? "success" : Outcomes.of(signal);
+            event.commit();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.interview.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.interview.JwtVerification")
+@Label("JWT Verification")
+@Category({"Spring Reactive Demo", "Security"})
+@Description("Verification of a bearer token")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Outcome")
+    @Description("accepted or rejected")
+    public String outcome;
+
+    @Label("Authorities")
+    @Description("Number of roles granted by an accepted token")
+    public int authorities;
+}
\ No newline at end of file
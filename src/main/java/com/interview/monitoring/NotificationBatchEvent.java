@@ -0,0 +1,29 @@
+package com.interview.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.interview.NotificationBatch")
+@Label("Notification Batch")
+@Category({"Spring Reactive Demo", "Notifications"})
+@Description("Rendering and sending one batch of notifications, including retries and rate limiting")
+@StackTrace(false)
+public class NotificationBatchEvent extends Event {
+
+    @Label("Provider")
+    public String provider;
+
+    @Label("Batch Size")
+    public int batchSize;
+
+    @Label("Attempts")
+    public int attempts;
+
+    @Label("Outcome")
+    @Description("sent or failed")
+    public String outcome;
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.interview.monitoring;
+
+import reactor.core.publisher.SignalType;
+
+/**
+ * Outcome attribute of events that span a reactive sequence.
+ */
+final class Outcomes {
+
+    private Outcomes() {
+    }
+
+    static String of(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "success";
+            case ON_ERROR -> "error";
+            default -> "canceled";
+        };
+    }
+}
\ No newline at end of file
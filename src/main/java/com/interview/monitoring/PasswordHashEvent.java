@@ -0,0 +1,28 @@
+package com.interview.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.interview.PasswordHash")
+@Label("Password Hash")
+@Category({"Spring Reactive Demo", "Security"})
+@Description("BCrypt hashing or checking of a password")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    @Label("Operation")
+    @Description("encode or matches")
+    public String operation;
+
+    @Label("Outcome")
+    @Description("encoded, matched, mismatched or error")
+    public String outcome;
+
+    @Label("User Id")
+    @Description("0 while the user is being registered")
+    public long userId;
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.interview.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.interview.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Spring Reactive Demo", "Data"})
+@Description("A repository method call, from subscription until its Mono or Flux terminates")
+@StackTrace(false)
+public class RepositoryQueryEvent extends Event {
+
+    @Label("Query")
+    @Description("Repository and method, such as UserRepository.findByEmail")
+    public String query;
+
+    @Label("Outcome")
+    @Description("success, error or canceled")
+    public String outcome;
+
+    @Label("Rows")
+    @Description("Elements emitted")
+    public long rows;
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.interview.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Emits a {@link RepositoryQueryEvent} for every call to a Spring Data
+ * repository, covering the per-shard repositories as well.
+ *
+ * The event starts when the returned {@code Mono} or {@code Flux} is subscribed,
+ * which is when the query actually runs, and ends when it terminates. Nothing is
+ * wrapped unless a recording has the event enabled.
+ */
+@Component
+public class RepositoryQueryEventPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxy, information) -> proxy.addAdvice(
+                            new QueryEventInterceptor(information.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private record QueryEventInterceptor(String repository) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            if (result instanceof Mono<?> mono) {
+                return recorded(mono, invocation);
+            }
+            if (result instanceof Flux<?> flux) {
+                return recorded(flux, invocation);
+            }
+            return result;
+        }
+
+        private <T> Mono<T> recorded(Mono<T> mono, MethodInvocation invocation) {
+            return Mono.defer(() -> {
+                RepositoryQueryEvent event = new RepositoryQueryEvent();
+                if (!event.isEnabled()) {
+                    return mono;
+                }
+                event.query = repository + "." + invocation.getMethod().getName();
+                event.begin();
+                return mono.doOnNext(row -> event.rows = 1).doFinally(signal -> commit(event, signal));
+            });
+        }
+
+        private <T> Flux<T> recorded(Flux<T> flux, MethodInvocation invocation) {
+            return Flux.defer(() -> {
+                RepositoryQueryEvent event = new RepositoryQueryEvent();
+                if (!event.isEnabled()) {
+                    return flux;
+                }
+                event.query = repository + "." + invocation.getMethod().getName();
+                event.begin();
+                return flux.doOnNext(row -> event.rows++).doFinally(signal -> commit(event, signal));
+            });
+        }
+
+        private static void commit(RepositoryQueryEvent event, SignalType signal) {
+            event.outcome = Outcomes.of(signal);
+            event.commit();
+        }
+    }
+}
\ No newline at end of file
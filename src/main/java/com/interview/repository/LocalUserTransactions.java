@@ -0,0 +1,27 @@
+package com.interview.repository;
+
+import com.interview.model.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link UserTransactions} for a single database: a plain transaction on the primary.
+ */
+@Component
+public class LocalUserTransactions implements UserTransactions {
+
+    private final TransactionalOperator transactionalOperator;
+
+    public LocalUserTransactions(ReactiveTransactionManager transactionManager) {
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+    }
+
+    @Override
+    public <T> Mono<T> inTransactionForNewUser(User user, Supplier<Mono<T>> work) {
+        return transactionalOperator.transactional(Mono.defer(work));
+    }
+}
\ No newline at end of file
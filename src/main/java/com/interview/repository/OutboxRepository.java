@@ -0,0 +1,49 @@
+package com.interview.repository;
+
+import com.interview.model.OutboxMessage;
+import com.interview.model.OutboxStats;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface OutboxRepository extends R2dbcRepository<OutboxMessage, Long> {
+    
+    // Claims up to :limit due rows for one dispatcher pass. A claim is a lease:
+    // rows whose lease expired (e.g. the claiming instance died) become claimable again
+    @Modifying
+    @Query("UPDATE notification_outbox SET claim_token = :token, claimed_until = :leaseUntil, " +
+           "attempts = attempts + 1 " +
+           "WHERE id IN (SELECT id FROM notification_outbox " +
+           "             WHERE failed_at IS NULL AND available_at <= :now " +
+           "             AND (claimed_until IS NULL OR claimed_until < :now) " +
+           "             ORDER BY available_at, id LIMIT :limit)")
+    Mono<Integer> claimBatch(String token, LocalDateTime now, LocalDateTime leaseUntil, int limit);
+    
+    Flux<OutboxMessage> findByClaimToken(String claimToken);
+    
+    @Modifying
+    @Query("DELETE FROM notification_outbox WHERE id IN (:ids)")
+    Mono<Integer> deleteSent(Collection<Long> ids);
+    
+    // Releases the claim and schedules the next attempt
+    @Modifying
+    @Query("UPDATE notification_outbox SET claim_token = NULL, claimed_until = NULL, " +
+           "available_at = :availableAt, last_error = :error WHERE id = :id")
+    Mono<Integer> reschedule(Long id, LocalDateTime availableAt, String error);
+    
+    @Modifying
+    @Query("UPDATE notification_outbox SET claim_token = NULL, claimed_until = NULL, " +
+           "failed_at = :failedAt, last_error = :error WHERE id = :id")
+    Mono<Integer> markFailed(Long id, LocalDateTime failedAt, String error);
+    
+    @Query("SELECT COUNT(*) AS depth, MIN(created_at) AS oldest_created_at FROM notification_outbox " +
+           "WHERE failed_at IS NULL")
+    Mono<OutboxStats> findStats();
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.interview.repository;
+
+import com.interview.model.ScheduledNotification;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledNotificationRepository extends R2dbcRepository<ScheduledNotification, Long> {
+    
+    @Query("SELECT * FROM scheduled_notification WHERE due_at >= :from AND due_at < :until ORDER BY due_at, id")
+    Flux<ScheduledNotification> findDueBetween(LocalDateTime from, LocalDateTime until);
+    
+    // Deleting is how a row is claimed when it fires or is cancelled: only one caller sees 1
+    @Modifying
+    @Query("DELETE FROM scheduled_notification WHERE id = :id")
+    Mono<Integer> release(Long id);
+}
\ No newline at end of file
@@ -1,23 +1,48 @@
 package com.interview.repository;
 
 import com.interview.model.User;
+import com.interview.model.UserSummary;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface UserRepository extends R2dbcRepository<User, Long> {
     
     // Custom query methods demonstrating reactive queries
+    // Multi-row reads are ordered by id so sharded results can be merge-sorted
+    @Query("SELECT * FROM users WHERE department = :department ORDER BY id")
     Flux<User> findByDepartment(String department);
     
     Mono<User> findByEmail(String email);
     
-    @Query("SELECT * FROM users WHERE name LIKE :pattern")
+    @Query("SELECT * FROM users WHERE name LIKE :pattern ORDER BY id")
     Flux<User> findByNamePattern(String pattern);
     
     @Query("SELECT COUNT(*) FROM users WHERE department = :department")
     Mono<Long> countByDepartment(String department);
+    
+    // Read projections - never select the password column
+    @Query("SELECT id, name, email, department, enabled, version FROM users ORDER BY id")
+    Flux<UserSummary> findAllSummaries();
+    
+    @Query("SELECT id, name, email, department, enabled, version FROM users WHERE id = :id")
+    Mono<UserSummary> findSummaryById(Long id);
+    
+    @Query("SELECT id, name, email, department, enabled, version FROM users WHERE department = :department ORDER BY id")
+    Flux<UserSummary> findSummariesByDepartment(String department);
+    
+    @Query("SELECT id, name, email, department, enabled, version FROM users WHERE name LIKE :pattern ORDER BY id")
+    Flux<UserSummary> findSummariesByNamePattern(String pattern);
+    
+    @Query("SELECT id, name, email, department, enabled, version FROM users WHERE id IN (:ids) ORDER BY id")
+    Flux<UserSummary> findSummariesByIdIn(Collection<Long> ids);
+    
+    // Version-only lookup for conditional GETs
+    @Query("SELECT version FROM users WHERE id = :id")
+    Mono<Long> findVersionById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.interview.repository;
+
+import com.interview.model.User;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * Opens the transaction that inserts a new user together with rows that must
+ * commit atomically with it (e.g. its outbox messages).
+ *
+ * The transaction has to run on the database that will hold the user, which
+ * with sharding is only known once the user has an id.
+ */
+public interface UserTransactions {
+
+    <T> Mono<T> inTransactionForNewUser(User user, Supplier<Mono<T>> work);
+}
\ No newline at end of file
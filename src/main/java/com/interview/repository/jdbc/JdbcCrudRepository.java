@@ -0,0 +1,276 @@
+package com.interview.repository.jdbc;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.ReflectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * The CRUD half of {@link R2dbcRepository} over a JDBC table with a generated
+ * {@code id} column. Subclasses map rows and write inserts and updates.
+ *
+ * Query by example compares the probe's fields with their snake_case columns, as
+ * Spring Data's default matcher does: null fields are skipped unless the matcher
+ * includes nulls, primitives always take part, and strings match exactly, optionally
+ * ignoring case. Other string matchers emit {@link InvalidDataAccessApiUsageException}.
+ */
+abstract class JdbcCrudRepository<T> implements R2dbcRepository<T, Long> {
+
+    private static final Pattern PROPERTY = Pattern.compile("[A-Za-z][A-Za-z0-9]*");
+
+    protected final ReactiveJdbc jdbc;
+    private final String table;
+    private final RowMapper<T> rowMapper;
+
+    JdbcCrudRepository(ReactiveJdbc jdbc, String table, RowMapper<T> rowMapper) {
+        this.jdbc = jdbc;
+        this.table = table;
+        this.rowMapper = rowMapper;
+    }
+
+    protected abstract Long idOf(T entity);
+
+    protected boolean isNew(T entity) {
+        return idOf(entity) == null;
+    }
+
+    protected abstract <S extends T> Mono<S> insert(S entity);
+
+    protected abstract <S extends T> Mono<S> update(S entity);
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        return isNew(entity) ? insert(entity) : update(entity);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        return Flux.fromIterable(entities).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+        return Flux.from(entityStream).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<T> findById(Long id) {
+        return jdbc.queryOne("SELECT * FROM " + table + " WHERE id = ?", rowMapper, id);
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<Long> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return jdbc.queryOne("SELECT COUNT(*) FROM " + table + " WHERE id = ?", (row, index) -> row.getLong(1), id)
+                .map(count -> count > 0);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<Long> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return jdbc.query("SELECT * FROM " + table + " ORDER BY id", rowMapper);
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        return jdbc.query("SELECT * FROM " + table + orderBy(sort), rowMapper);
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<Long> ids) {
+        List<Long> idList = StreamSupport.stream(ids.spliterator(), false).toList();
+        if (idList.isEmpty()) {
+            return Flux.empty();
+        }
+        return jdbc.query("SELECT * FROM " + table + " WHERE id IN (" + placeholders(idList) + ")", rowMapper,
+                idList.toArray());
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<Long> idStream) {
+        return Flux.from(idStream).collectList().flatMapMany(this::findAllById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return jdbc.queryOne("SELECT COUNT(*) FROM " + table, (row, index) -> row.getLong(1));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return jdbc.update("DELETE FROM " + table + " WHERE id = ?", id).then();
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<Long> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        return deleteById(idOf(entity));
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends Long> ids) {
+        return Flux.fromIterable(ids).concatMap(this::deleteById).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        return Flux.fromIterable(entities).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+        return Flux.from(entityStream).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return jdbc.update("DELETE FROM " + table).then();
+    }
+
+    @Override
+    public <S extends T> Mono<S> findOne(Example<S> example) {
+        return findAll(example).take(2).collectList().flatMap(matches -> matches.size() > 1
+                ? Mono.error(new IncorrectResultSizeDataAccessException(1))
+                : Mono.justOrEmpty(matches.stream().findFirst()));
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example) {
+        return findAll(example, Sort.by("id"));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> Flux<S> findAll(Example<S> example, Sort sort) {
+        return Mono.fromCallable(() -> where(example))
+                .flatMapMany(where -> jdbc.query("SELECT * FROM " + table + where.sql() + orderBy(sort),
+                        (row, index) -> (S) rowMapper.mapRow(row, index), where.args()));
+    }
+
+    @Override
+    public <S extends T> Mono<Long> count(Example<S> example) {
+        return Mono.fromCallable(() -> where(example))
+                .flatMap(where -> jdbc.queryOne("SELECT COUNT(*) FROM " + table + where.sql(),
+                        (row, index) -> row.getLong(1), where.args()));
+    }
+
+    @Override
+    public <S extends T> Mono<Boolean> exists(Example<S> example) {
+        return count(example).map(matches -> matches > 0);
+    }
+
+    @Override
+    public <S extends T, R, P extends Publisher<R>> P findBy(Example<S> example,
+            Function<FluentQuery.ReactiveFluentQuery<S>, P> queryFunction) {
+        return queryFunction.apply(new JdbcFluentQuery<>(sort -> findAll(example, sort), count(example)));
+    }
+
+    protected static String placeholders(Collection<?> values) {
+        return values.stream().map(value -> "?").collect(Collectors.joining(", "));
+    }
+
+    // Property names become snake_case columns, as Spring Data maps them
+    private static String column(String property) {
+        if (!PROPERTY.matcher(property).matches()) {
+            throw new IllegalArgumentException("Invalid sort property: " + property);
+        }
+        return property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+                .map(order -> column(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    /**
+     * The WHERE clause matching {@code example}, or an empty one for a probe without
+     * values to match.
+     */
+    private static Where where(Example<?> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        Object probe = example.getProbe();
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        ReflectionUtils.doWithFields(example.getProbeType(), field -> {
+            String path = field.getName();
+            if (matcher.isIgnoredPath(path)) {
+                return;
+            }
+            ReflectionUtils.makeAccessible(field);
+            ExampleMatcher.PropertySpecifier specifier = matcher.getPropertySpecifiers().getForPath(path);
+            Object value = field.get(probe);
+            if (specifier != null) {
+                value = specifier.transformValue(Optional.ofNullable(value)).orElse(null);
+            }
+            String column = column(path);
+            if (value == null) {
+                if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(column + " IS NULL");
+                }
+                return;
+            }
+            if (value instanceof String) {
+                ExampleMatcher.StringMatcher stringMatcher = specifier != null && specifier.getStringMatcher() != null
+                        ? specifier.getStringMatcher() : matcher.getDefaultStringMatcher();
+                if (stringMatcher != ExampleMatcher.StringMatcher.DEFAULT
+                        && stringMatcher != ExampleMatcher.StringMatcher.EXACT) {
+                    throw new InvalidDataAccessApiUsageException(
+                            "Only exact string matching is supported: " + path + " uses " + stringMatcher);
+                }
+                boolean ignoreCase = specifier != null && specifier.getIgnoreCase() != null
+                        ? specifier.getIgnoreCase() : matcher.isIgnoreCaseEnabled();
+                if (ignoreCase) {
+                    conditions.add("LOWER(" + column + ") = LOWER(?)");
+                    args.add(value);
+                    return;
+                }
+            }
+            conditions.add(column + " = ?");
+            args.add(value);
+        }, field -> !Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(Transient.class));
+        if (conditions.isEmpty()) {
+            return new Where("", new Object[0]);
+        }
+        String separator = matcher.isAllMatching() ? " AND " : " OR ";
+        return new Where(" WHERE " + String.join(separator, conditions), args.toArray());
+    }
+
+    private record Where(String sql, Object[] args) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.interview.repository.jdbc;
+
+import com.interview.model.OutboxMessage;
+import com.interview.model.OutboxStats;
+import com.interview.repository.OutboxRepository;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * {@link OutboxRepository} over JDBC, so {@code UserService.createUser} writes the
+ * user and its welcome message in one JDBC transaction.
+ */
+public class JdbcOutboxRepository extends JdbcCrudRepository<OutboxMessage> implements OutboxRepository {
+
+    private static final RowMapper<OutboxMessage> MESSAGE = (row, index) -> {
+        OutboxMessage message = new OutboxMessage(row.getString("type"), row.getString("recipient"),
+                row.getObject("created_at", LocalDateTime.class));
+        message.setId(row.getLong("id"));
+        message.setAvailableAt(row.getObject("available_at", LocalDateTime.class));
+        message.setAttempts(row.getInt("attempts"));
+        message.setClaimToken(row.getString("claim_token"));
+        message.setClaimedUntil(row.getObject("claimed_until", LocalDateTime.class));
+        message.setLastError(row.getString("last_error"));
+        message.setFailedAt(row.getObject("failed_at", LocalDateTime.class));
+        return message;
+    };
+
+    public JdbcOutboxRepository(ReactiveJdbc jdbc) {
+        super(jdbc, "notification_outbox", MESSAGE);
+    }
+
+    @Override
+    protected Long idOf(OutboxMessage message) {
+        return message.getId();
+    }
+
+    @Override
+    protected <S extends OutboxMessage> Mono<S> insert(S message) {
+        return jdbc.insert("INSERT INTO notification_outbox (type, recipient, created_at, available_at, attempts, "
+                                + "claim_token, claimed_until, last_error, failed_at) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        message.getType(), message.getRecipient(), message.getCreatedAt(), message.getAvailableAt(),
+                        message.getAttempts(), message.getClaimToken(), message.getClaimedUntil(),
+                        message.getLastError(), message.getFailedAt())
+                .map(id -> {
+                    message.setId(id);
+                    return message;
+                });
+    }
+
+    @Override
+    protected <S extends OutboxMessage> Mono<S> update(S message) {
+        return jdbc.update("UPDATE notification_outbox SET type = ?, recipient = ?, created_at = ?, "
+                                + "available_at = ?, attempts = ?, claim_token = ?, claimed_until = ?, "
+                                + "last_error = ?, failed_at = ? WHERE id = ?",
+                        message.getType(), message.getRecipient(), message.getCreatedAt(), message.getAvailableAt(),
+                        message.getAttempts(), message.getClaimToken(), message.getClaimedUntil(),
+                        message.getLastError(), message.getFailedAt(), message.getId())
+                .thenReturn(message);
+    }
+
+    @Override
+    public Mono<Integer> claimBatch(String token, LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        return jdbc.update("UPDATE notification_outbox SET claim_token = ?, claimed_until = ?, "
+                        + "attempts = attempts + 1 "
+                        + "WHERE id IN (SELECT id FROM notification_outbox "
+                        + "             WHERE failed_at IS NULL AND available_at <= ? "
+                        + "             AND (claimed_until IS NULL OR claimed_until < ?) "
+                        + "             ORDER BY available_at, id LIMIT ?)",
+                token, leaseUntil, now, now, limit);
+    }
+
+    @Override
+    public Flux<OutboxMessage> findByClaimToken(String claimToken) {
+        return jdbc.query("SELECT * FROM notification_outbox WHERE claim_token = ?", MESSAGE, claimToken);
+    }
+
+    @Override
+    public Mono<Integer> deleteSent(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(0);
+        }
+        return jdbc.update("DELETE FROM notification_outbox WHERE id IN (" + placeholders(ids) + ")", ids.toArray());
+    }
+
+    @Override
+    public Mono<Integer> reschedule(Long id, LocalDateTime availableAt, String error) {
+        return jdbc.update("UPDATE notification_outbox SET claim_token = NULL, claimed_until = NULL, "
+                + "available_at = ?, last_error = ? WHERE id = ?", availableAt, error, id);
+    }
+
+    @Override
+    public Mono<Integer> markFailed(Long id, LocalDateTime failedAt, String error) {
+        return jdbc.update("UPDATE notification_outbox SET claim_token = NULL, claimed_until = NULL, "
+                + "failed_at = ?, last_error = ? WHERE id = ?", failedAt, error, id);
+    }
+
+    @Override
+    public Mono<OutboxStats> findStats() {
+        return jdbc.queryOne("SELECT COUNT(*) AS depth, MIN(created_at) AS oldest_created_at "
+                        + "FROM notification_outbox WHERE failed_at IS NULL",
+                (row, index) -> new OutboxStats(row.getLong("depth"),
+                        row.getObject("oldest_created_at", LocalDateTime.class)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.interview.repository.jdbc;
+
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.support.SmartTransactionObject;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Reactive transactions over a JDBC {@link DataSource}, so {@code @Transactional}
+ * and {@code TransactionalOperator} work unchanged with the JDBC repositories.
+ *
+ * The transaction's connection is bound in the Reactor context, the same way
+ * {@code R2dbcTransactionManager} binds an R2DBC connection, and
+ * {@link ReactiveJdbc} picks it up from there. Opening, committing, rolling back
+ * and closing the connection block, so they run on the JDBC scheduler.
+ */
+public class JdbcReactiveTransactionManager extends AbstractReactiveTransactionManager {
+
+    private final DataSource dataSource;
+    private final Scheduler scheduler;
+
+    public JdbcReactiveTransactionManager(ReactiveJdbc jdbc) {
+        this.dataSource = jdbc.dataSource();
+        this.scheduler = jdbc.scheduler();
+    }
+
+    @Override
+    protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+        return new JdbcTransaction((ConnectionResource) synchronizationManager.getResource(dataSource));
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return ((JdbcTransaction) transaction).resource != null;
+    }
+
+    @Override
+    protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                 TransactionDefinition definition) {
+        JdbcTransaction jdbcTransaction = (JdbcTransaction) transaction;
+        return Mono.fromCallable(() -> {
+                    Connection connection = dataSource.getConnection();
+                    try {
+                        ConnectionResource resource = new ConnectionResource(connection,
+                                connection.getTransactionIsolation());
+                        if (definition.isReadOnly()) {
+                            connection.setReadOnly(true);
+                        }
+                        if (definition.getIsolationLevel() != TransactionDefinition.ISOLATION_DEFAULT) {
+                            connection.setTransactionIsolation(definition.getIsolationLevel());
+                        }
+                        connection.setAutoCommit(false);
+                        return resource;
+                    } catch (SQLException | RuntimeException e) {
+                        connection.close();
+                        throw e;
+                    }
+                })
+                .subscribeOn(scheduler)
+                .doOnNext(resource -> {
+                    jdbcTransaction.resource = resource;
+                    synchronizationManager.bindResource(dataSource, resource);
+                })
+                .onErrorMap(SQLException.class,
+                        e -> new CannotCreateTransactionException("Could not open JDBC connection for transaction", e))
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                  GenericReactiveTransaction status) {
+        Connection connection = ((JdbcTransaction) status.getTransaction()).resource.connection();
+        return Mono.<Void>fromRunnable(() -> {
+                    try {
+                        connection.commit();
+                    } catch (SQLException e) {
+                        throw new TransactionSystemException("Could not commit JDBC transaction", e);
+                    }
+                })
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                    GenericReactiveTransaction status) {
+        Connection connection = ((JdbcTransaction) status.getTransaction()).resource.connection();
+        return Mono.<Void>fromRunnable(() -> {
+                    try {
+                        connection.rollback();
+                    } catch (SQLException e) {
+                        throw new TransactionSystemException("Could not roll back JDBC transaction", e);
+                    }
+                })
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    protected Mono<Void> doSetRollbackOnly(TransactionSynchronizationManager synchronizationManager,
+                                           GenericReactiveTransaction status) {
+        ((JdbcTransaction) status.getTransaction()).resource.rollbackOnly = true;
+        return Mono.empty();
+    }
+
+    @Override
+    protected Mono<Object> doSuspend(TransactionSynchronizationManager synchronizationManager, Object transaction) {
+        ((JdbcTransaction) transaction).resource = null;
+        return Mono.just(synchronizationManager.unbindResource(dataSource));
+    }
+
+    @Override
+    protected Mono<Void> doResume(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                  Object suspendedResources) {
+        synchronizationManager.bindResource(dataSource, suspendedResources);
+        return Mono.empty();
+    }
+
+    @Override
+    protected Mono<Void> doCleanupAfterCompletion(TransactionSynchronizationManager synchronizationManager,
+                                                  Object transaction) {
+        // Only called for the transaction that opened the connection
+        synchronizationManager.unbindResource(dataSource);
+        ConnectionResource resource = ((JdbcTransaction) transaction).resource;
+        return Mono.<Void>fromRunnable(() -> {
+                    // Reset before the connection goes back to the pool
+                    try (Connection connection = resource.connection()) {
+                        connection.setAutoCommit(true);
+                        connection.setReadOnly(false);
+                        connection.setTransactionIsolation(resource.previousIsolation());
+                    } catch (SQLException e) {
+                        System.err.println("Could not reset JDBC connection after transaction: " + e.getMessage());
+                    }
+                })
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * What a transaction binds in the Reactor context under the {@link DataSource}.
+     */
+    static final class ConnectionResource {
+
+        private final Connection connection;
+        private final int previousIsolation;
+        private volatile boolean rollbackOnly;
+
+        private ConnectionResource(Connection connection, int previousIsolation) {
+            this.connection = connection;
+            this.previousIsolation = previousIsolation;
+        }
+
+        Connection connection() {
+            return connection;
+        }
+
+        private int previousIsolation() {
+            return previousIsolation;
+        }
+    }
+
+    private static final class JdbcTransaction implements SmartTransactionObject {
+
+        // Already set when joining an outer transaction
+        private ConnectionResource resource;
+
+        private JdbcTransaction(ConnectionResource existing) {
+            this.resource = existing;
+        }
+
+        @Override
+        public boolean isRollbackOnly() {
+            return resource != null && resource.rollbackOnly;
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
\ No newline at end of file
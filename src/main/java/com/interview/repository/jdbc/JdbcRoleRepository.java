@@ -0,0 +1,66 @@
+package com.interview.repository.jdbc;
+
+import com.interview.security.model.Role;
+import com.interview.security.repository.RoleRepository;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RoleRepository} over JDBC, running the same SQL as the R2DBC repository.
+ */
+public class JdbcRoleRepository extends JdbcCrudRepository<Role> implements RoleRepository {
+
+    private static final RowMapper<Role> ROLE = (row, index) -> {
+        Role role = new Role(row.getString("name"), row.getString("description"));
+        role.setId(row.getLong("id"));
+        return role;
+    };
+
+    public JdbcRoleRepository(ReactiveJdbc jdbc) {
+        super(jdbc, "roles", ROLE);
+    }
+
+    @Override
+    protected Long idOf(Role role) {
+        return role.getId();
+    }
+
+    @Override
+    protected <S extends Role> Mono<S> insert(S role) {
+        return jdbc.insert("INSERT INTO roles (name, description) VALUES (?, ?)", role.getName(), role.getDescription())
+                .map(id -> {
+                    role.setId(id);
+                    return role;
+                });
+    }
+
+    @Override
+    protected <S extends Role> Mono<S> update(S role) {
+        return jdbc.update("UPDATE roles SET name = ?, description = ? WHERE id = ?",
+                        role.getName(), role.getDescription(), role.getId())
+                .thenReturn(role);
+    }
+
+    @Override
+    public Mono<Role> findByName(String name) {
+        return jdbc.queryOne("SELECT * FROM roles WHERE name = ?", ROLE, name);
+    }
+
+    @Override
+    public Flux<Role> findByUserId(Long userId) {
+        return jdbc.query("SELECT r.* FROM roles r JOIN user_roles ur ON r.id = ur.role_id WHERE ur.user_id = ?",
+                ROLE, userId);
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return jdbc.queryOne("SELECT version FROM catalog_versions WHERE name = 'roles'",
+                (row, index) -> row.getLong(1));
+    }
+
+    @Override
+    public Mono<Integer> incrementCatalogVersion() {
+        return jdbc.update("UPDATE catalog_versions SET version = version + 1 WHERE name = 'roles'");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.interview.repository.jdbc;
+
+import com.interview.model.User;
+import com.interview.model.UserSummary;
+import com.interview.repository.UserRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * {@link UserRepository} over JDBC, running the same SQL as the R2DBC repository.
+ *
+ * Like Spring Data, a user without a version is inserted (with version 0) and an
+ * update bumps the version, failing with {@link OptimisticLockingFailureException}
+ * when the row changed in between.
+ */
+public class JdbcUserRepository extends JdbcCrudRepository<User> implements UserRepository {
+
+    private static final String SUMMARY_COLUMNS = "SELECT id, name, email, department, enabled, version FROM users ";
+
+    private static final RowMapper<User> USER = (row, index) -> {
+        User user = new User(row.getString("name"), row.getString("email"), row.getString("password"),
+                row.getString("department"));
+        user.setId(row.getLong("id"));
+        user.setEnabled(row.getBoolean("enabled"));
+        user.setVersion(row.getLong("version"));
+        return user;
+    };
+
+    private static final RowMapper<UserSummary> SUMMARY = (row, index) -> new UserSummary(row.getLong("id"),
+            row.getString("name"), row.getString("email"), row.getString("department"), row.getBoolean("enabled"),
+            row.getLong("version"));
+
+    public JdbcUserRepository(ReactiveJdbc jdbc) {
+        super(jdbc, "users", USER);
+    }
+
+    @Override
+    protected Long idOf(User user) {
+        return user.getId();
+    }
+
+    @Override
+    protected boolean isNew(User user) {
+        return user.getVersion() == null;
+    }
+
+    @Override
+    protected <S extends User> Mono<S> insert(S user) {
+        return jdbc.insert("INSERT INTO users (name, email, password, department, enabled, version) "
+                                + "VALUES (?, ?, ?, ?, ?, 0)",
+                        user.getName(), user.getEmail(), user.getPassword(), user.getDepartment(), user.isEnabled())
+                .map(id -> {
+                    user.setId(id);
+                    user.setVersion(0L);
+                    return user;
+                });
+    }
+
+    @Override
+    protected <S extends User> Mono<S> update(S user) {
+        return jdbc.update("UPDATE users SET name = ?, email = ?, password = ?, department = ?, enabled = ?, "
+                                + "version = version + 1 WHERE id = ? AND version = ?",
+                        user.getName(), user.getEmail(), user.getPassword(), user.getDepartment(), user.isEnabled(),
+                        user.getId(), user.getVersion())
+                .flatMap(updated -> {
+                    if (updated == 0) {
+                        return Mono.error(new OptimisticLockingFailureException(
+                                "Failed to update table [users]; Version does not match for row with Id ["
+                                        + user.getId() + "]"));
+                    }
+                    user.setVersion(user.getVersion() + 1);
+                    return Mono.just(user);
+                });
+    }
+
+    @Override
+    public Flux<User> findByDepartment(String department) {
+        return jdbc.query("SELECT * FROM users WHERE department = ? ORDER BY id", USER, department);
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return jdbc.queryOne("SELECT * FROM users WHERE email = ?", USER, email);
+    }
+
+    @Override
+    public Flux<User> findByNamePattern(String pattern) {
+        return jdbc.query("SELECT * FROM users WHERE name LIKE ? ORDER BY id", USER, pattern);
+    }
+
+    @Override
+    public Mono<Long> countByDepartment(String department) {
+        return jdbc.queryOne("SELECT COUNT(*) FROM users WHERE department = ?", (row, index) -> row.getLong(1),
+                department);
+    }
+
+    @Override
+    public Flux<UserSummary> findAllSummaries() {
+        return jdbc.query(SUMMARY_COLUMNS + "ORDER BY id", SUMMARY);
+    }
+
+    @Override
+    public Mono<UserSummary> findSummaryById(Long id) {
+        return jdbc.queryOne(SUMMARY_COLUMNS + "WHERE id = ?", SUMMARY, id);
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByDepartment(String department) {
+        return jdbc.query(SUMMARY_COLUMNS + "WHERE department = ? ORDER BY id", SUMMARY, department);
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByNamePattern(String pattern) {
+        return jdbc.query(SUMMARY_COLUMNS + "WHERE name LIKE ? ORDER BY id", SUMMARY, pattern);
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return jdbc.query(SUMMARY_COLUMNS + "WHERE id IN (" + placeholders(ids) + ") ORDER BY id", SUMMARY,
+                ids.toArray());
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return jdbc.queryOne("SELECT version FROM users WHERE id = ?", (row, index) -> row.getLong(1), id);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.interview.repository.jdbc;
+
+import com.interview.security.model.UserRole;
+import com.interview.security.model.UserRoleRow;
+import com.interview.security.repository.UserRoleRepository;
+import org.springframework.jdbc.core.RowMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link UserRoleRepository} over JDBC, running the same SQL as the R2DBC repository.
+ */
+public class JdbcUserRoleRepository extends JdbcCrudRepository<UserRole> implements UserRoleRepository {
+
+    private static final String USERS_PAGE = "FROM (SELECT id, name, email, department, enabled FROM users "
+            + "      WHERE id > ? ORDER BY id LIMIT ?) u ";
+
+    private static final RowMapper<UserRole> USER_ROLE = (row, index) -> {
+        UserRole userRole = new UserRole(row.getLong("user_id"), row.getLong("role_id"));
+        userRole.setId(row.getLong("id"));
+        return userRole;
+    };
+
+    private static final RowMapper<UserRoleRow> USER_ROLE_ROW = (row, index) -> new UserRoleRow(
+            row.getLong("user_id"), row.getString("name"), row.getString("email"), row.getString("department"),
+            row.getBoolean("enabled"), row.getObject("role_id", Long.class), row.getString("role_name"),
+            row.getString("role_description"));
+
+    public JdbcUserRoleRepository(ReactiveJdbc jdbc) {
+        super(jdbc, "user_roles", USER_ROLE);
+    }
+
+    @Override
+    protected Long idOf(UserRole userRole) {
+        return userRole.getId();
+    }
+
+    @Override
+    protected <S extends UserRole> Mono<S> insert(S userRole) {
+        return jdbc.insert("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)",
+                        userRole.getUserId(), userRole.getRoleId())
+                .map(id -> {
+                    userRole.setId(id);
+                    return userRole;
+                });
+    }
+
+    @Override
+    protected <S extends UserRole> Mono<S> update(S userRole) {
+        return jdbc.update("UPDATE user_roles SET user_id = ?, role_id = ? WHERE id = ?",
+                        userRole.getUserId(), userRole.getRoleId(), userRole.getId())
+                .thenReturn(userRole);
+    }
+
+    @Override
+    public Flux<UserRole> findByUserId(Long userId) {
+        return jdbc.query("SELECT * FROM user_roles WHERE user_id = ?", USER_ROLE, userId);
+    }
+
+    @Override
+    public Flux<Long> findRoleIdsByUserId(Long userId) {
+        return jdbc.query("SELECT role_id FROM user_roles WHERE user_id = ? ORDER BY role_id",
+                (row, index) -> row.getLong(1), userId);
+    }
+
+    @Override
+    public Flux<UserRoleRow> findUsersWithRoles(long afterId, int limit) {
+        return jdbc.query("SELECT u.id AS user_id, u.name, u.email, u.department, u.enabled, "
+                        + "r.id AS role_id, r.name AS role_name, r.description AS role_description "
+                        + USERS_PAGE
+                        + "LEFT JOIN user_roles ur ON ur.user_id = u.id "
+                        + "LEFT JOIN roles r ON r.id = ur.role_id "
+                        + "ORDER BY u.id, r.id",
+                USER_ROLE_ROW, afterId, limit);
+    }
+
+    @Override
+    public Flux<UserRoleRow> findUsersWithRoleIds(long afterId, int limit) {
+        return jdbc.query("SELECT u.id AS user_id, u.name, u.email, u.department, u.enabled, "
+                        + "ur.role_id, NULL AS role_name, NULL AS role_description "
+                        + USERS_PAGE
+                        + "LEFT JOIN user_roles ur ON ur.user_id = u.id "
+                        + "ORDER BY u.id, ur.role_id",
+                USER_ROLE_ROW, afterId, limit);
+    }
+
+    @Override
+    public Flux<UserRole> findByRoleId(Long roleId) {
+        return jdbc.query("SELECT * FROM user_roles WHERE role_id = ?", USER_ROLE, roleId);
+    }
+
+    @Override
+    public Mono<UserRole> findByUserIdAndRoleId(Long userId, Long roleId) {
+        return jdbc.queryOne("SELECT * FROM user_roles WHERE user_id = ? AND role_id = ?", USER_ROLE,
+                userId, roleId);
+    }
+
+    @Override
+    public Mono<Void> deleteByUserId(Long userId) {
+        return jdbc.update("DELETE FROM user_roles WHERE user_id = ?", userId).then();
+    }
+
+    @Override
+    public Mono<Void> deleteByUserIdAndRoleId(Long userId, Long roleId) {
+        return jdbc.update("DELETE FROM user_roles WHERE user_id = ? AND role_id = ?", userId, roleId).then();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.interview.repository.jdbc;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Runs blocking JDBC calls off the event loop and hands their results back as
+ * {@link Mono}/{@link Flux}, so JDBC repositories can sit behind the reactive
+ * repository interfaces.
+ *
+ * - calls run on {@link #scheduler()}, a thread pool as large as the connection pool
+ * - inside a {@link JdbcReactiveTransactionManager} transaction the transaction's
+ *   connection is used; otherwise each call borrows a pooled connection (auto-commit)
+ * - {@link SQLException}s are translated into Spring's {@code DataAccessException}s,
+ *   as the R2DBC repositories do
+ * - query results are read completely before they are emitted; JDBC has no backpressure
+ */
+public class ReactiveJdbc {
+
+    private final DataSource dataSource;
+    private final Scheduler scheduler;
+    private final SQLExceptionTranslator exceptionTranslator;
+
+    public ReactiveJdbc(DataSource dataSource, Scheduler scheduler) {
+        this.dataSource = dataSource;
+        this.scheduler = scheduler;
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+    }
+
+    /**
+     * Scheduler for blocking JDBC work with at most {@code threads} threads; calls
+     * beyond that queue until a thread is free.
+     */
+    public static Scheduler newScheduler(int threads) {
+        return Schedulers.newBoundedElastic(threads, Integer.MAX_VALUE, "jdbc");
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    public void dispose() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Runs {@code work} with the current transaction's connection or a pooled one.
+     * A null result completes the Mono empty.
+     */
+    public <T> Mono<T> execute(String sql, ConnectionCallback<T> work) {
+        return transactionConnection()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(bound -> Mono.fromCallable(() -> {
+                    if (bound.isPresent()) {
+                        return work.doInConnection(bound.get());
+                    }
+                    try (Connection connection = dataSource.getConnection()) {
+                        return work.doInConnection(connection);
+                    }
+                }).subscribeOn(scheduler))
+                .onErrorMap(SQLException.class, e -> translate(sql, e));
+    }
+
+    public <T> Flux<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+        return execute(sql, connection -> {
+            try (PreparedStatement statement = prepare(connection, sql, args);
+                 ResultSet resultSet = statement.executeQuery()) {
+                List<T> rows = new ArrayList<>();
+                while (resultSet.next()) {
+                    rows.add(rowMapper.mapRow(resultSet, rows.size()));
+                }
+                return rows;
+            }
+        }).flatMapIterable(rows -> rows);
+    }
+
+    /**
+     * Emits the single row of {@code sql}, or completes empty; more than one row is an error.
+     */
+    public <T> Mono<T> queryOne(String sql, RowMapper<T> rowMapper, Object... args) {
+        return query(sql, rowMapper, args).singleOrEmpty();
+    }
+
+    /**
+     * Emits the number of rows changed.
+     */
+    public Mono<Integer> update(String sql, Object... args) {
+        return execute(sql, connection -> {
+            try (PreparedStatement statement = prepare(connection, sql, args)) {
+                return statement.executeUpdate();
+            }
+        });
+    }
+
+    /**
+     * Inserts a row and emits its generated {@code id}.
+     */
+    public Mono<Long> insert(String sql, Object... args) {
+        return execute(sql, connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                bind(statement, args);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                    return keys.getLong(1);
+                }
+            }
+        });
+    }
+
+    private Mono<Connection> transactionConnection() {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .mapNotNull(synchronizationManager -> synchronizationManager.getResource(dataSource))
+                .map(resource -> ((JdbcReactiveTransactionManager.ConnectionResource) resource).connection())
+                .onErrorResume(NoTransactionException.class, e -> Mono.empty());
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, Object[] args) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        try {
+            bind(statement, args);
+            return statement;
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Object[] args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setObject(i + 1, args[i]);
+        }
+    }
+
+    private RuntimeException translate(String sql, SQLException e) {
+        RuntimeException translated = exceptionTranslator.translate("JDBC", sql, e);
+        return translated != null ? translated : new IllegalStateException(e);
+    }
+}
\ No newline at end of file
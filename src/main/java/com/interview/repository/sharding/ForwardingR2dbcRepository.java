@@ -0,0 +1,150 @@
+package com.interview.repository.sharding;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * An {@link R2dbcRepository} that forwards every call to a delegate.
+ * Subclasses override the operations they need to change.
+ */
+abstract class ForwardingR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
+
+    private final R2dbcRepository<T, ID> delegate;
+
+    ForwardingR2dbcRepository(R2dbcRepository<T, ID> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        return delegate.save(entity);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        return delegate.saveAll(entities);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+        return delegate.saveAll(entityStream);
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<ID> id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ID id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<ID> id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        return delegate.findAll(sort);
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<ID> idStream) {
+        return delegate.findAllById(idStream);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return delegate.count();
+    }
+
+    @Override
+    public Mono<Void> deleteById(ID id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<ID> id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        return delegate.delete(entity);
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+        return delegate.deleteAllById(ids);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        return delegate.deleteAll(entities);
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+        return delegate.deleteAll(entityStream);
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return delegate.deleteAll();
+    }
+
+    @Override
+    public <S extends T> Mono<S> findOne(Example<S> example) {
+        return delegate.findOne(example);
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example) {
+        return delegate.findAll(example);
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example, Sort sort) {
+        return delegate.findAll(example, sort);
+    }
+
+    @Override
+    public <S extends T> Mono<Long> count(Example<S> example) {
+        return delegate.count(example);
+    }
+
+    @Override
+    public <S extends T> Mono<Boolean> exists(Example<S> example) {
+        return delegate.exists(example);
+    }
+
+    @Override
+    public <S extends T, R, P extends Publisher<R>> P findBy(Example<S> example,
+            Function<FluentQuery.ReactiveFluentQuery<S>, P> queryFunction) {
+        return delegate.findBy(example, queryFunction);
+    }
+}
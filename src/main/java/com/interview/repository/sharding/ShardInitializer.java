@@ -0,0 +1,110 @@
+package com.interview.repository.sharding;
+
+import com.interview.model.User;
+import com.interview.repository.UserRepository;
+import com.interview.security.model.UserRole;
+import com.interview.security.repository.UserRoleRepository;
+import com.interview.support.Sharding;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Prepares the shards once all beans exist and before the server accepts requests:
+ * - creates the shard schema on the extra shards and the directory on shard 0
+ * - moves users (with their user_roles) that are not on their home shard,
+ *   e.g. rows seeded into shard 0 by data.sql or left by a change of shard count
+ * - rebuilds the email directory and restarts the id sequence after the highest id
+ *
+ * Rows are copied before they are deleted, but the move is not atomic across
+ * databases; it is meant for startup, not for live rebalancing.
+ */
+public class ShardInitializer implements SmartInitializingSingleton {
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+    private final UserRepository users;
+    private final UserRoleRepository userRoles;
+    private final UserShards shards;
+
+    /**
+     * @param users     the unsharded Spring Data repository, routed explicitly here
+     * @param userRoles the unsharded Spring Data repository, routed explicitly here
+     */
+    public ShardInitializer(ConnectionFactory connectionFactory, DatabaseClient databaseClient,
+                            UserRepository users, UserRoleRepository userRoles, UserShards shards) {
+        this.connectionFactory = connectionFactory;
+        this.databaseClient = databaseClient;
+        this.users = users;
+        this.userRoles = userRoles;
+        this.shards = shards;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        initialize().block();
+    }
+
+    public Mono<Void> initialize() {
+        return createSchemas()
+                .then(rebalance())
+                .then(rebuildDirectory())
+                .then(restartIdSequence());
+    }
+
+    private Mono<Void> createSchemas() {
+        ResourceDatabasePopulator shardSchema = new ResourceDatabasePopulator(new ClassPathResource("schema-shard.sql"));
+        ResourceDatabasePopulator directorySchema =
+                new ResourceDatabasePopulator(new ClassPathResource("schema-shard-directory.sql"));
+        return Flux.fromIterable(shards.shards())
+                .filter(shard -> shard != Sharding.DEFAULT_SHARD)
+                .concatMap(shard -> Sharding.onShard(shard, shardSchema.populate(connectionFactory)))
+                .then(Sharding.onShard(Sharding.DEFAULT_SHARD, directorySchema.populate(connectionFactory)));
+    }
+
+    private Mono<Void> rebalance() {
+        return Flux.fromIterable(shards.shards())
+                .concatMap(shard -> Sharding.onShard(shard, users.findAll(Sort.by("id")))
+                        .filter(user -> shards.shardOf(user.getId()) != shard)
+                        .concatMap(user -> move(user, shard)))
+                .then();
+    }
+
+    private Mono<Void> move(User user, int from) {
+        int to = shards.shardOf(user.getId());
+        return Sharding.onShard(from, userRoles.findByUserId(user.getId()))
+                .collectList()
+                .flatMap(assignments -> {
+                    // A null version makes save() insert the row, keeping its id
+                    user.setVersion(null);
+                    return Sharding.onShard(to, users.save(user))
+                            .thenMany(Flux.fromIterable(assignments)
+                                    .concatMap(assignment -> Sharding.onShard(to,
+                                            userRoles.save(new UserRole(assignment.getUserId(), assignment.getRoleId())))))
+                            .then(Sharding.onShard(from, users.deleteById(user.getId())));
+                });
+    }
+
+    private Mono<Void> rebuildDirectory() {
+        return shards.clearDirectory()
+                .thenMany(Flux.fromIterable(shards.shards())
+                        .concatMap(shard -> Sharding.onShard(shard, users.findAllSummaries())
+                                .concatMap(user -> shards.register(user.email(), user.id()))))
+                .then();
+    }
+
+    private Mono<Void> restartIdSequence() {
+        return Flux.fromIterable(shards.shards())
+                .concatMap(shard -> Sharding.onShard(shard, databaseClient.sql("SELECT COALESCE(MAX(id), 0) FROM users")
+                        .map(row -> row.get(0, Long.class))
+                        .one()))
+                .reduce(0L, Math::max)
+                .flatMap(maxId -> Sharding.onShard(Sharding.DEFAULT_SHARD,
+                        databaseClient.sql("ALTER SEQUENCE user_id_seq RESTART WITH " + (maxId + 1)).then()));
+    }
+}
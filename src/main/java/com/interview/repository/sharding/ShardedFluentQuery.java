@@ -0,0 +1,118 @@
+package com.interview.repository.sharding;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Fluent query by example across shards, answered by the sharded repository's own
+ * scatter-gather reads.
+ *
+ * Sorting, limits, paging and the single-result, count and exists terminals are
+ * supported. Projections ({@code as}, {@code project}) and scrolling would have to
+ * merge per-shard results of another type or position, so their terminals emit
+ * {@link InvalidDataAccessApiUsageException}.
+ */
+final class ShardedFluentQuery<T> implements FluentQuery.ReactiveFluentQuery<T> {
+
+    private final Function<Sort, Flux<T>> query;
+    private final Mono<Long> count;
+    private final Sort sort;
+    private final int limit;
+    // Set once the query asked for something that cannot be answered across shards
+    private final String unsupported;
+
+    ShardedFluentQuery(Function<Sort, Flux<T>> query, Mono<Long> count) {
+        this(query, count, Sort.unsorted(), 0, null);
+    }
+
+    private ShardedFluentQuery(Function<Sort, Flux<T>> query, Mono<Long> count, Sort sort, int limit,
+                               String unsupported) {
+        this.query = query;
+        this.count = count;
+        this.sort = sort;
+        this.limit = limit;
+        this.unsupported = unsupported;
+    }
+
+    @Override
+    public ShardedFluentQuery<T> sortBy(Sort sort) {
+        return new ShardedFluentQuery<>(query, count, this.sort.and(sort), limit, unsupported);
+    }
+
+    @Override
+    public ShardedFluentQuery<T> limit(int limit) {
+        return new ShardedFluentQuery<>(query, count, sort, limit, unsupported);
+    }
+
+    @Override
+    public <R> ShardedFluentQuery<R> as(Class<R> resultType) {
+        return new ShardedFluentQuery<>(null, null, sort, limit, "Projections are not supported across shards");
+    }
+
+    @Override
+    public ShardedFluentQuery<T> project(Collection<String> properties) {
+        return new ShardedFluentQuery<>(query, count, sort, limit, "Projections are not supported across shards");
+    }
+
+    @Override
+    public Mono<T> one() {
+        return all().take(2).collectList().flatMap(ShardedR2dbcRepository::single);
+    }
+
+    @Override
+    public Mono<T> first() {
+        return all().next();
+    }
+
+    @Override
+    public Flux<T> all() {
+        return read(sort);
+    }
+
+    @Override
+    public Mono<Window<T>> scroll(ScrollPosition scrollPosition) {
+        return Mono.error(new InvalidDataAccessApiUsageException("Scrolling is not supported across shards"));
+    }
+
+    @Override
+    public Mono<Page<T>> page(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return all().collectList().map(PageImpl::new);
+        }
+        return read(sort.and(pageable.getSort()))
+                .skip(pageable.getOffset())
+                .take(pageable.getPageSize())
+                .collectList()
+                .zipWith(count())
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return unsupported != null ? Mono.error(new InvalidDataAccessApiUsageException(unsupported)) : count;
+    }
+
+    @Override
+    public Mono<Boolean> exists() {
+        return count().map(matches -> matches > 0);
+    }
+
+    private Flux<T> read(Sort order) {
+        if (unsupported != null) {
+            return Flux.error(new InvalidDataAccessApiUsageException(unsupported));
+        }
+        Flux<T> results = query.apply(order);
+        return limit > 0 ? results.take(limit) : results;
+    }
+}
\ No newline at end of file
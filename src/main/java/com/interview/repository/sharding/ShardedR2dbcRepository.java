@@ -0,0 +1,242 @@
+package com.interview.repository.sharding;
+
+import com.interview.support.Sharding;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spreads an {@link R2dbcRepository}'s CRUD operations over the user shards.
+ *
+ * Operations on a known entity or id go to its shard; {@code findAll},
+ * {@code count}, {@code deleteAll} and the query-by-example methods scatter to
+ * every shard. Scattered reads are merged in id order, or for a {@link Sort} in
+ * that order with id as the tie-break, each shard sorting its own rows first.
+ *
+ * Operations that cannot be answered across shards emit
+ * {@link InvalidDataAccessApiUsageException} rather than throwing.
+ */
+abstract class ShardedR2dbcRepository<T, ID> extends ForwardingR2dbcRepository<T, ID> {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    protected final R2dbcRepository<T, ID> delegate;
+    protected final UserShards shards;
+
+    ShardedR2dbcRepository(R2dbcRepository<T, ID> delegate, UserShards shards) {
+        super(delegate);
+        this.delegate = delegate;
+        this.shards = shards;
+    }
+
+    /**
+     * Shard holding {@code entity}.
+     */
+    protected abstract int shardOf(T entity);
+
+    /**
+     * Shard holding the row with primary key {@code id}. May throw
+     * {@link InvalidDataAccessApiUsageException} if ids do not identify a shard;
+     * id-based operations then emit it as their error.
+     */
+    protected abstract int shardOfId(ID id);
+
+    /**
+     * Order scattered results are merged in; must match ordering by id.
+     */
+    protected abstract Comparator<T> idOrder();
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        return Sharding.onShard(shardOf(entity), delegate.save(entity));
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        return Flux.fromIterable(entities).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+        return Flux.from(entityStream).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<T> findById(ID id) {
+        return Mono.defer(() -> Sharding.onShard(shardOfId(id), delegate.findById(id)));
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(ID id) {
+        return Mono.defer(() -> Sharding.onShard(shardOfId(id), delegate.existsById(id)));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return shards.scatter(shard -> delegate.findAll(BY_ID), idOrder());
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        return scatterSorted(delegate::findAll, sort);
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<ID> ids) {
+        return Flux.defer(() -> {
+            Map<Integer, List<ID>> idsByShard = StreamSupport.stream(ids.spliterator(), false)
+                    .collect(Collectors.groupingBy(this::shardOfId));
+            return shards.scatter(shard -> idsByShard.containsKey(shard)
+                    ? delegate.findAllById(idsByShard.get(shard)).sort(idOrder())
+                    : Flux.empty(), idOrder());
+        });
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<ID> idStream) {
+        return Flux.from(idStream).collectList().flatMapMany(this::findAllById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return shards.sum(shard -> delegate.count());
+    }
+
+    @Override
+    public Mono<Void> deleteById(ID id) {
+        return Mono.defer(() -> Sharding.onShard(shardOfId(id), delegate.deleteById(id)));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        return Sharding.onShard(shardOf(entity), delegate.delete(entity));
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+        return Flux.fromIterable(ids).concatMap(this::deleteById).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        return Flux.fromIterable(entities).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+        return Flux.from(entityStream).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return shards.broadcast(shard -> delegate.deleteAll());
+    }
+
+    @Override
+    public <S extends T> Mono<S> findOne(Example<S> example) {
+        return findAll(example).take(2).collectList().flatMap(ShardedR2dbcRepository::single);
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example) {
+        return shards.scatter(shard -> delegate.findAll(example, BY_ID), idOrder());
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example, Sort sort) {
+        return scatterSorted(shardSort -> delegate.findAll(example, shardSort), sort);
+    }
+
+    @Override
+    public <S extends T> Mono<Long> count(Example<S> example) {
+        return shards.sum(shard -> delegate.count(example));
+    }
+
+    @Override
+    public <S extends T> Mono<Boolean> exists(Example<S> example) {
+        return Flux.fromIterable(shards.shards())
+                .concatMap(shard -> Sharding.onShard(shard, delegate.exists(example)))
+                .any(Boolean::booleanValue);
+    }
+
+    @Override
+    public <S extends T, R, P extends Publisher<R>> P findBy(Example<S> example,
+            Function<FluentQuery.ReactiveFluentQuery<S>, P> queryFunction) {
+        return queryFunction.apply(new ShardedFluentQuery<>(sort -> findAll(example, sort), count(example)));
+    }
+
+    /**
+     * Runs {@code query} on every shard with {@code sort}, completed by id, and
+     * merges the results in the same order. Unsorted means id order.
+     */
+    private <S extends T> Flux<S> scatterSorted(Function<Sort, Flux<S>> query, Sort sort) {
+        if (sort.isUnsorted()) {
+            return shards.scatter(shard -> query.apply(BY_ID), idOrder());
+        }
+        Sort total = sort.getOrderFor("id") != null ? sort : sort.and(BY_ID);
+        return shards.scatter(shard -> query.apply(total), comparing(total));
+    }
+
+    static <S> Mono<S> single(List<S> matches) {
+        return matches.size() > 1
+                ? Mono.error(new IncorrectResultSizeDataAccessException(1))
+                : Mono.justOrEmpty(matches.stream().findFirst());
+    }
+
+    /**
+     * Orders entities by their bean properties the way the database orders rows for
+     * {@code sort}: nulls first when ascending and last when descending (H2's default)
+     * unless the order says otherwise.
+     */
+    static <S> Comparator<S> comparing(Sort sort) {
+        Comparator<S> order = (a, b) -> 0;
+        for (Sort.Order property : sort) {
+            order = order.thenComparing(entity -> new BeanWrapperImpl(entity).getPropertyValue(property.getProperty()),
+                    valueOrder(property));
+        }
+        return order;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Object> valueOrder(Sort.Order property) {
+        Comparator<Object> natural = (a, b) -> property.isIgnoreCase() && a instanceof String x && b instanceof String y
+                ? x.compareToIgnoreCase(y)
+                : ((Comparable) a).compareTo(b);
+        Comparator<Object> directed = property.isAscending() ? natural : natural.reversed();
+        boolean nullsFirst = switch (property.getNullHandling()) {
+            case NULLS_FIRST -> true;
+            case NULLS_LAST -> false;
+            case NATIVE -> property.isAscending();
+        };
+        return nullsFirst ? Comparator.nullsFirst(directed) : Comparator.nullsLast(directed);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.interview.repository.sharding;
+
+import com.interview.security.model.Role;
+import com.interview.security.repository.RoleRepository;
+import com.interview.security.repository.UserRoleRepository;
+import com.interview.support.Sharding;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RoleRepository} for a sharded deployment. The role catalog stays on
+ * shard 0; only the user-to-roles lookup changes, because a user's role
+ * assignments live on the user's shard and cannot be joined there.
+ */
+public class ShardedRoleRepository extends ForwardingR2dbcRepository<Role, Long> implements RoleRepository {
+
+    private final RoleRepository roles;
+    private final UserRoleRepository userRoles;
+    private final UserShards shards;
+
+    public ShardedRoleRepository(RoleRepository roles, UserRoleRepository userRoles, UserShards shards) {
+        super(roles);
+        this.roles = roles;
+        this.userRoles = userRoles;
+        this.shards = shards;
+    }
+
+    @Override
+    public Mono<Role> findByName(String name) {
+        return roles.findByName(name);
+    }
+
+    @Override
+    public Flux<Role> findByUserId(Long userId) {
+        return Sharding.onShard(shards.shardOf(userId), userRoles.findRoleIdsByUserId(userId))
+                .collectList()
+                .flatMapMany(roleIds -> roleIds.isEmpty()
+                        ? Flux.empty()
+                        : Sharding.onShard(Sharding.DEFAULT_SHARD, roles.findAllById(roleIds)));
+    }
+
+    @Override
+    public Mono<Long> findCatalogVersion() {
+        return roles.findCatalogVersion();
+    }
+
+    @Override
+    public Mono<Integer> incrementCatalogVersion() {
+        return roles.incrementCatalogVersion();
+    }
+}
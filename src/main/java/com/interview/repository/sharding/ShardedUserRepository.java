@@ -0,0 +1,159 @@
+package com.interview.repository.sharding;
+
+import com.interview.model.User;
+import com.interview.model.UserSummary;
+import com.interview.repository.UserRepository;
+import com.interview.support.Sharding;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link UserRepository} over hash-sharded user tables.
+ *
+ * - new users get an id from the shard 0 sequence and are written to that id's shard
+ * - emails are claimed in the directory before the row is written, so a
+ *   duplicate email fails before anything is inserted
+ * - lookups by id go to one shard, lookups by email go through the directory
+ * - department, name and list queries scatter to every shard and are merged by id
+ */
+public class ShardedUserRepository extends ShardedR2dbcRepository<User, Long> implements UserRepository {
+
+    private static final Comparator<UserSummary> SUMMARY_ORDER = Comparator.comparing(UserSummary::id);
+    private static final Comparator<User> USER_ORDER = Comparator.comparing(User::getId);
+
+    private final UserRepository users;
+
+    public ShardedUserRepository(UserRepository users, UserShards shards) {
+        super(users, shards);
+        this.users = users;
+    }
+
+    @Override
+    protected int shardOf(User user) {
+        return shards.shardOf(user.getId());
+    }
+
+    @Override
+    protected int shardOfId(Long id) {
+        return shards.shardOf(id);
+    }
+
+    @Override
+    protected Comparator<User> idOrder() {
+        return USER_ORDER;
+    }
+
+    @Override
+    public <S extends User> Mono<S> save(S user) {
+        // A null version marks a new row, matching Spring Data's own insert/update decision
+        return user.getVersion() == null ? insert(user) : update(user);
+    }
+
+    private <S extends User> Mono<S> insert(S user) {
+        Mono<Long> id = user.getId() != null ? Mono.just(user.getId()) : shards.nextUserId();
+        return id.flatMap(userId -> {
+            user.setId(userId);
+            int shard = shards.shardOf(userId);
+            return shards.register(user.getEmail(), userId)
+                    .then(Sharding.onShard(shard, users.save(user))
+                            .onErrorResume(error -> shards.unregister(user.getEmail(), userId)
+                                    .then(Mono.error(error))));
+        });
+    }
+
+    private <S extends User> Mono<S> update(S user) {
+        int shard = shards.shardOf(user.getId());
+        return Sharding.onShard(shard, users.findById(user.getId()))
+                .map(User::getEmail)
+                .defaultIfEmpty(user.getEmail())
+                .flatMap(previousEmail -> {
+                    if (previousEmail.equals(user.getEmail())) {
+                        return Sharding.onShard(shard, users.save(user));
+                    }
+                    // Claim the new email first; release the old one once the row is updated
+                    return shards.register(user.getEmail(), user.getId())
+                            .then(Sharding.onShard(shard, users.save(user))
+                                    .onErrorResume(error -> shards.unregister(user.getEmail(), user.getId())
+                                            .then(Mono.error(error))))
+                            .flatMap(saved -> shards.unregister(previousEmail, user.getId()).thenReturn(saved));
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        int shard = shards.shardOf(id);
+        return Sharding.onShard(shard, users.findById(id))
+                .flatMap(user -> Sharding.onShard(shard, users.deleteById(id))
+                        .then(shards.unregister(user.getEmail(), id)));
+    }
+
+    @Override
+    public Mono<Void> delete(User user) {
+        return deleteById(user.getId());
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return super.deleteAll().then(shards.clearDirectory());
+    }
+
+    @Override
+    public Flux<User> findByDepartment(String department) {
+        return shards.scatter(shard -> users.findByDepartment(department), USER_ORDER);
+    }
+
+    @Override
+    public Mono<User> findByEmail(String email) {
+        return shards.findShardByEmail(email)
+                .flatMap(shard -> Sharding.onShard(shard, users.findByEmail(email)));
+    }
+
+    @Override
+    public Flux<User> findByNamePattern(String pattern) {
+        return shards.scatter(shard -> users.findByNamePattern(pattern), USER_ORDER);
+    }
+
+    @Override
+    public Mono<Long> countByDepartment(String department) {
+        return shards.sum(shard -> users.countByDepartment(department));
+    }
+
+    @Override
+    public Flux<UserSummary> findAllSummaries() {
+        return shards.scatter(shard -> users.findAllSummaries(), SUMMARY_ORDER);
+    }
+
+    @Override
+    public Mono<UserSummary> findSummaryById(Long id) {
+        return Sharding.onShard(shards.shardOf(id), users.findSummaryById(id));
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByDepartment(String department) {
+        return shards.scatter(shard -> users.findSummariesByDepartment(department), SUMMARY_ORDER);
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByNamePattern(String pattern) {
+        return shards.scatter(shard -> users.findSummariesByNamePattern(pattern), SUMMARY_ORDER);
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByIdIn(Collection<Long> ids) {
+        Map<Integer, List<Long>> idsByShard = ids.stream().collect(Collectors.groupingBy(shards::shardOf));
+        return shards.scatter(shard -> idsByShard.containsKey(shard)
+                ? users.findSummariesByIdIn(idsByShard.get(shard))
+                : Flux.empty(), SUMMARY_ORDER);
+    }
+
+    @Override
+    public Mono<Long> findVersionById(Long id) {
+        return Sharding.onShard(shards.shardOf(id), users.findVersionById(id));
+    }
+}
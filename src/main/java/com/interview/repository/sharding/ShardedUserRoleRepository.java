@@ -0,0 +1,113 @@
+package com.interview.repository.sharding;
+
+import com.interview.security.model.Role;
+import com.interview.security.model.UserRole;
+import com.interview.security.model.UserRoleRow;
+import com.interview.security.repository.RoleRepository;
+import com.interview.security.repository.UserRoleRepository;
+import com.interview.support.Sharding;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link UserRoleRepository} with user_roles rows colocated with their user.
+ *
+ * Every user-keyed operation goes to the user's shard. user_roles ids are only
+ * unique within a shard, so id-based lookups and deletes emit
+ * {@link InvalidDataAccessApiUsageException}.
+ * Role names come from the role catalog on shard 0.
+ */
+public class ShardedUserRoleRepository extends ShardedR2dbcRepository<UserRole, Long> implements UserRoleRepository {
+
+    private static final Comparator<UserRole> ID_ORDER = Comparator.comparing(UserRole::getId);
+    private static final Comparator<UserRoleRow> ROW_ORDER = Comparator.comparing(UserRoleRow::userId)
+            .thenComparing(UserRoleRow::roleId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final UserRoleRepository userRoles;
+    private final RoleRepository roles;
+
+    public ShardedUserRoleRepository(UserRoleRepository userRoles, RoleRepository roles, UserShards shards) {
+        super(userRoles, shards);
+        this.userRoles = userRoles;
+        this.roles = roles;
+    }
+
+    @Override
+    protected int shardOf(UserRole userRole) {
+        return shards.shardOf(userRole.getUserId());
+    }
+
+    @Override
+    protected int shardOfId(Long id) {
+        throw new InvalidDataAccessApiUsageException(
+                "user_roles ids are only unique within a shard; use the user-keyed methods");
+    }
+
+    @Override
+    protected Comparator<UserRole> idOrder() {
+        return ID_ORDER;
+    }
+
+    @Override
+    public Flux<UserRole> findByUserId(Long userId) {
+        return Sharding.onShard(shards.shardOf(userId), userRoles.findByUserId(userId));
+    }
+
+    @Override
+    public Flux<Long> findRoleIdsByUserId(Long userId) {
+        return Sharding.onShard(shards.shardOf(userId), userRoles.findRoleIdsByUserId(userId));
+    }
+
+    /**
+     * Takes a page from every shard, merges them by user id, keeps the first
+     * {@code limit} users and fills in role names from the catalog.
+     */
+    @Override
+    public Flux<UserRoleRow> findUsersWithRoles(long afterId, int limit) {
+        Flux<UserRoleRow> rows = findUsersWithRoleIds(afterId, limit)
+                .windowUntilChanged(UserRoleRow::userId)
+                .take(limit)
+                .concatMap(Function.identity());
+        return Sharding.onShard(Sharding.DEFAULT_SHARD, roles.findAll().collectMap(Role::getId))
+                .flatMapMany(catalog -> rows.map(row -> withRoleDetails(row, catalog)));
+    }
+
+    private static UserRoleRow withRoleDetails(UserRoleRow row, Map<Long, Role> catalog) {
+        Role role = row.roleId() == null ? null : catalog.get(row.roleId());
+        if (role == null) {
+            return row;
+        }
+        return new UserRoleRow(row.userId(), row.name(), row.email(), row.department(), row.enabled(),
+                row.roleId(), role.getName(), role.getDescription());
+    }
+
+    @Override
+    public Flux<UserRoleRow> findUsersWithRoleIds(long afterId, int limit) {
+        return shards.scatter(shard -> userRoles.findUsersWithRoleIds(afterId, limit), ROW_ORDER);
+    }
+
+    @Override
+    public Flux<UserRole> findByRoleId(Long roleId) {
+        return shards.scatter(shard -> userRoles.findByRoleId(roleId).sort(ID_ORDER), ID_ORDER);
+    }
+
+    @Override
+    public Mono<UserRole> findByUserIdAndRoleId(Long userId, Long roleId) {
+        return Sharding.onShard(shards.shardOf(userId), userRoles.findByUserIdAndRoleId(userId, roleId));
+    }
+
+    @Override
+    public Mono<Void> deleteByUserId(Long userId) {
+        return Sharding.onShard(shards.shardOf(userId), userRoles.deleteByUserId(userId));
+    }
+
+    @Override
+    public Mono<Void> deleteByUserIdAndRoleId(Long userId, Long roleId) {
+        return Sharding.onShard(shards.shardOf(userId), userRoles.deleteByUserIdAndRoleId(userId, roleId));
+    }
+}
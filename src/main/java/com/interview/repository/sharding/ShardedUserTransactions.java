@@ -0,0 +1,39 @@
+package com.interview.repository.sharding;
+
+import com.interview.model.User;
+import com.interview.repository.UserTransactions;
+import com.interview.support.Sharding;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link UserTransactions} for sharded users: assigns the user's id first, then
+ * runs the transaction on the shard that id maps to.
+ *
+ * The email directory is written outside the transaction; if the transaction
+ * fails, the user's directory claim is released again.
+ */
+public class ShardedUserTransactions implements UserTransactions {
+
+    private final TransactionalOperator transactionalOperator;
+    private final UserShards shards;
+
+    public ShardedUserTransactions(ReactiveTransactionManager transactionManager, UserShards shards) {
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.shards = shards;
+    }
+
+    @Override
+    public <T> Mono<T> inTransactionForNewUser(User user, Supplier<Mono<T>> work) {
+        Mono<Long> id = user.getId() != null ? Mono.just(user.getId()) : shards.nextUserId();
+        return id.flatMap(userId -> {
+            user.setId(userId);
+            return Sharding.onShard(shards.shardOf(userId), transactionalOperator.transactional(Mono.defer(work)))
+                    .onErrorResume(error -> shards.unregister(user.getEmail(), userId)
+                            .then(Mono.error(error)));
+        });
+    }
+}
\ No newline at end of file
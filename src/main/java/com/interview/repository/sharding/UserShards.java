@@ -0,0 +1,117 @@
+package com.interview.repository.sharding;
+
+import com.interview.support.Sharding;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Shard layout for user-owned data.
+ *
+ * - users and their user_roles live on the shard {@link Sharding#shardOf} picks for the user id
+ * - user ids come from one sequence on shard 0, so they are unique across shards
+ * - the email directory on shard 0 maps each email to its user's shard and
+ *   enforces email uniqueness across shards
+ *
+ * The directory client is bound to shard 0's own pool rather than the routing
+ * factory, so directory reads and writes always commit independently of any
+ * transaction the caller has open on a user shard.
+ */
+public class UserShards {
+
+    private final DatabaseClient directory;
+    private final int shardCount;
+
+    public UserShards(DatabaseClient directory, int shardCount) {
+        this.directory = directory;
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(long userId) {
+        return Sharding.shardOf(userId, shardCount);
+    }
+
+    public List<Integer> shards() {
+        return IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    public Mono<Long> nextUserId() {
+        return directory.sql("SELECT NEXT VALUE FOR user_id_seq")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<Integer> findShardByEmail(String email) {
+        return directory
+                .sql("SELECT shard FROM user_shard_directory WHERE email = :email")
+                .bind("email", email)
+                .map(row -> row.get("shard", Integer.class))
+                .one();
+    }
+
+    /**
+     * Claims {@code email} for a user; fails with a duplicate key error if another
+     * user already holds it.
+     */
+    public Mono<Void> register(String email, long userId) {
+        return directory
+                .sql("INSERT INTO user_shard_directory (email, user_id, shard) VALUES (:email, :userId, :shard)")
+                .bind("email", email)
+                .bind("userId", userId)
+                .bind("shard", shardOf(userId))
+                .then();
+    }
+
+    /**
+     * Releases {@code email} if it is held by {@code userId}; a claim held by
+     * another user is left alone, so this is safe to use as compensation.
+     */
+    public Mono<Void> unregister(String email, long userId) {
+        return directory
+                .sql("DELETE FROM user_shard_directory WHERE email = :email AND user_id = :userId")
+                .bind("email", email)
+                .bind("userId", userId)
+                .then();
+    }
+
+    public Mono<Void> clearDirectory() {
+        return directory.sql("DELETE FROM user_shard_directory").then();
+    }
+
+    /**
+     * Runs {@code query} on every shard and merges the results by {@code order}.
+     * Each shard's results must already be sorted by the same order; the merge
+     * streams without buffering whole shards.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> scatter(IntFunction<Flux<T>> query, Comparator<? super T> order) {
+        List<Flux<T>> perShard = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            perShard.add(Sharding.onShard(shard, query.apply(shard)));
+        }
+        return Flux.mergeComparing(order, perShard.toArray(new Flux[0]));
+    }
+
+    public Mono<Long> sum(IntFunction<Mono<Long>> query) {
+        return Flux.fromIterable(shards())
+                .flatMap(shard -> Sharding.onShard(shard, query.apply(shard)))
+                .reduce(0L, Long::sum);
+    }
+
+    public Mono<Void> broadcast(IntFunction<Mono<Void>> command) {
+        return Flux.fromIterable(shards())
+                .concatMap(shard -> Sharding.onShard(shard, command.apply(shard)))
+                .then();
+    }
+
+}
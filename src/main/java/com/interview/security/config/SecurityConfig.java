@@ -73,15 +73,20 @@ public class SecurityConfig {
                         // H2 console is typically used during local development only.
                         // Consider locking this down or disabling it in production.
                         .pathMatchers("/h2-console/**").permitAll()
+                        // Liveness/readiness for probes; every other actuator endpoint is admin only
+                        .pathMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                        .pathMatchers("/actuator/**").hasRole("ADMIN")
                         
                         // Admin only endpoints
                         // Note: hasRole("ADMIN") expects authorities in the form "ROLE_ADMIN".
                         .pathMatchers(HttpMethod.DELETE, "/api/users/**").hasRole("ADMIN")
                         .pathMatchers(HttpMethod.GET, "/api/admin/**").hasRole("ADMIN")
+                        .pathMatchers("/api/admin/notifications/**").hasRole("ADMIN")
                         
                         // User and Admin endpoints
                         .pathMatchers(HttpMethod.GET, "/api/users/**").hasAnyRole("USER", "ADMIN")
                         .pathMatchers(HttpMethod.PUT, "/api/users/**").hasAnyRole("USER", "ADMIN")
+                        .pathMatchers(HttpMethod.POST, "/api/users/batch-get").hasAnyRole("USER", "ADMIN")
                         .pathMatchers(HttpMethod.POST, "/api/users").hasRole("ADMIN")
                         
                         // Functional endpoints
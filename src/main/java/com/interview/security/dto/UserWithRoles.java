@@ -0,0 +1,12 @@
+package com.interview.security.dto;
+
+import com.interview.security.model.Role;
+
+import java.util.List;
+
+/**
+ * A user (without password) together with all assigned roles.
+ */
+public record UserWithRoles(Long id, String name, String email, String department, boolean enabled,
+                            List<Role> roles) {
+}
@@ -1,5 +1,8 @@
 package com.interview.security.jwt;
 
+import com.interview.monitoring.JwtVerificationEvent;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -8,34 +11,60 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthenticationManager implements ReactiveAuthenticationManager {
 
     private final JwtUtil jwtUtil;
+    private final Timer accepted;
+    private final Timer rejected;
 
     public JwtAuthenticationManager(JwtUtil jwtUtil) {
         this.jwtUtil = jwtUtil;
+        this.accepted = verificationTimer("accepted");
+        this.rejected = verificationTimer("rejected");
+    }
+
+    private static Timer verificationTimer(String outcome) {
+        return Timer.builder("security.jwt.verification")
+                .description("Time to verify a bearer token and build its authentication")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
     }
 
     @Override
     public Mono<Authentication> authenticate(Authentication authentication) {
         String authToken = authentication.getCredentials().toString();
         
-        return Mono.just(authToken)
-                .filter(token -> !token.isEmpty())
-                .filter(jwtUtil::isTokenValid)
-                .map(token -> {
-                    String username = jwtUtil.getUsernameFromToken(token);
-                    List<String> roles = jwtUtil.getRolesFromToken(token);
-                    
-                    List<SimpleGrantedAuthority> authorities = roles.stream()
-                            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                            .collect(Collectors.toList());
-                    
-                    return new UsernamePasswordAuthenticationToken(username, null, authorities);
-                })
-                .cast(Authentication.class);
+        // Verification is CPU-bound, so it is timed synchronously; an empty result means rejected
+        return Mono.fromSupplier(() -> verify(authToken));
+    }
+
+    private Authentication verify(String token) {
+        long start = System.nanoTime();
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        Authentication result = null;
+        try {
+            if (!token.isEmpty() && jwtUtil.isTokenValid(token)) {
+                String username = jwtUtil.getUsernameFromToken(token);
+                List<String> roles = jwtUtil.getRolesFromToken(token);
+                
+                List<SimpleGrantedAuthority> authorities = roles.stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                        .collect(Collectors.toList());
+                
+                result = new UsernamePasswordAuthenticationToken(username, null, authorities);
+            }
+            return result;
+        } finally {
+            (result != null ? accepted : rejected).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.outcome = result != null ? "accepted" : "rejected";
+            event.authorities = result != null ? result.getAuthorities().size() : 0;
+            event.commit();
+        }
     }
 }
\ No newline at end of file
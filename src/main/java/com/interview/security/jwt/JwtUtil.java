@@ -1,8 +1,10 @@
 package com.interview.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +23,15 @@ public class JwtUtil {
     @Value("${jwt.expiration:86400}") // 24 hours in seconds
     private Long expiration;
 
+    // Building a parser scans the classpath for JJWT's services, which blocks, so it is
+    // built once at startup instead of on the event loop for every token
+    private volatile JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        parser();
+    }
+
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(secret.getBytes());
     }
@@ -59,10 +70,19 @@ public class JwtUtil {
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
+
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
 }
\ No newline at end of file
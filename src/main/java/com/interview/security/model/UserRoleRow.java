@@ -0,0 +1,9 @@
+package com.interview.security.model;
+
+/**
+ * Flat row of the users-with-roles join: one row per (user, role) pair, or a
+ * single row with null role columns for a user without roles.
+ */
+public record UserRoleRow(Long userId, String name, String email, String department, boolean enabled,
+                          Long roleId, String roleName, String roleDescription) {
+}
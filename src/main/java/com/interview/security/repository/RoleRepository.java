@@ -1,5 +1,6 @@
 package com.interview.security.repository;
 
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
@@ -17,4 +18,11 @@ public interface RoleRepository extends R2dbcRepository<Role, Long> {
            "JOIN user_roles ur ON r.id = ur.role_id " +
            "WHERE ur.user_id = :userId")
     Flux<Role> findByUserId(Long userId);
+    
+    @Query("SELECT version FROM catalog_versions WHERE name = 'roles'")
+    Mono<Long> findCatalogVersion();
+    
+    @Modifying
+    @Query("UPDATE catalog_versions SET version = version + 1 WHERE name = 'roles'")
+    Mono<Integer> incrementCatalogVersion();
 }
\ No newline at end of file
@@ -1,17 +1,43 @@
 package com.interview.security.repository;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import com.interview.security.model.UserRole;
+import com.interview.security.model.UserRoleRow;
 
 @Repository
 public interface UserRoleRepository extends R2dbcRepository<UserRole, Long> {
     
     Flux<UserRole> findByUserId(Long userId);
     
+    @Query("SELECT role_id FROM user_roles WHERE user_id = :userId ORDER BY role_id")
+    Flux<Long> findRoleIdsByUserId(Long userId);
+    
+    // One set-based query for a keyset page of users and all their roles,
+    // ordered so rows of the same user are adjacent
+    @Query("SELECT u.id AS user_id, u.name, u.email, u.department, u.enabled, " +
+           "r.id AS role_id, r.name AS role_name, r.description AS role_description " +
+           "FROM (SELECT id, name, email, department, enabled FROM users " +
+           "      WHERE id > :afterId ORDER BY id LIMIT :limit) u " +
+           "LEFT JOIN user_roles ur ON ur.user_id = u.id " +
+           "LEFT JOIN roles r ON r.id = ur.role_id " +
+           "ORDER BY u.id, r.id")
+    Flux<UserRoleRow> findUsersWithRoles(long afterId, int limit);
+    
+    // Same page without joining roles (role name and description are null);
+    // used where the roles table lives in another database
+    @Query("SELECT u.id AS user_id, u.name, u.email, u.department, u.enabled, " +
+           "ur.role_id, NULL AS role_name, NULL AS role_description " +
+           "FROM (SELECT id, name, email, department, enabled FROM users " +
+           "      WHERE id > :afterId ORDER BY id LIMIT :limit) u " +
+           "LEFT JOIN user_roles ur ON ur.user_id = u.id " +
+           "ORDER BY u.id, ur.role_id")
+    Flux<UserRoleRow> findUsersWithRoleIds(long afterId, int limit);
+    
     Flux<UserRole> findByRoleId(Long roleId);
     
     Mono<UserRole> findByUserIdAndRoleId(Long userId, Long roleId);
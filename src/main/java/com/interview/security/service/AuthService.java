@@ -3,8 +3,10 @@ package com.interview.security.service;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import com.interview.model.User;
+import com.interview.monitoring.PasswordHashEvent;
 import com.interview.repository.UserRepository;
 import com.interview.security.dto.LoginRequest;
 import com.interview.security.dto.LoginResponse;
@@ -63,8 +65,10 @@ public class AuthService {
         return userRepository.findByEmail(loginRequest.getEmail())
                 // Only allow login for enabled accounts
                 .filter(User::isEnabled)
-                // Verify provided password against the stored hash
-                .filter(user -> passwordEncoder.matches(loginRequest.getPassword(), user.getPassword()))
+                // Verify provided password against the stored hash; BCrypt is deliberately slow,
+                // so it runs on boundedElastic rather than the event loop
+                .filterWhen(user -> Mono.fromCallable(() -> passwordMatches(loginRequest.getPassword(), user))
+                        .subscribeOn(Schedulers.boundedElastic()))
                 .flatMap(user -> 
                     roleRepository.findByUserId(user.getId())
                             .map(Role::getName)
@@ -96,10 +100,11 @@ public class AuthService {
                     if (exists) {
                         return Mono.error(new RuntimeException("User already exists with email: " + user.getEmail()));
                     }
-                    // Securely hash the password before persisting
-                    user.setPassword(passwordEncoder.encode(user.getPassword()));
-                    
-                    return userRepository.save(user)
+                    // Securely hash the password before persisting (off the event loop, see login)
+                    return Mono.fromCallable(() -> encodePassword(user))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .doOnNext(user::setPassword)
+                            .then(Mono.defer(() -> userRepository.save(user)))
                             .flatMap(savedUser -> 
                                 // Assign default USER role for baseline access
                                 roleRepository.findByName("USER")
@@ -124,4 +129,37 @@ public class AuthService {
                             .collectList()
                 );
     }
+
+    // Both BCrypt calls are recorded as JFR events, so slow logins can be lined up
+    // with CPU and GC activity in a recording. Recordings are always on, so events
+    // carry the user id rather than the email address
+    private boolean passwordMatches(String rawPassword, User user) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        event.outcome = "error";
+        try {
+            boolean matched = passwordEncoder.matches(rawPassword, user.getPassword());
+            event.outcome = matched ? "matched" : "mismatched";
+            return matched;
+        } finally {
+            event.operation = "matches";
+            event.userId = user.getId() != null ? user.getId() : 0;
+            event.commit();
+        }
+    }
+
+    private String encodePassword(User user) {
+        PasswordHashEvent event = new PasswordHashEvent();
+        event.begin();
+        event.outcome = "error";
+        try {
+            String encoded = passwordEncoder.encode(user.getPassword());
+            event.outcome = "encoded";
+            return encoded;
+        } finally {
+            event.operation = "encode";
+            event.userId = user.getId() != null ? user.getId() : 0;
+            event.commit();
+        }
+    }
 }
\ No newline at end of file
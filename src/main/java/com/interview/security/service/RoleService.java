@@ -1,13 +1,22 @@
 package com.interview.security.service;
 
+import io.micrometer.core.instrument.Metrics;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import com.interview.security.dto.UserWithRoles;
 import com.interview.security.model.Role;
 import com.interview.security.model.UserRole;
+import com.interview.security.model.UserRoleRow;
 import com.interview.security.repository.RoleRepository;
 import com.interview.security.repository.UserRoleRepository;
+import com.interview.support.ReadWriteRouting;
+import com.interview.support.SingleFlight;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 /**
@@ -18,30 +27,36 @@ import com.interview.security.repository.UserRoleRepository;
  * - List all roles and roles for a given user
  * - Assign and remove roles from users with duplicate checks
  * - Create roles while preventing duplicates by name
+ * - Expose the role catalog version and per-user role ids for ETags
+ * - List pages of users together with their roles
+ * - Route pure reads to a read replica when one is configured
  */
 public class RoleService {
 
     private final RoleRepository roleRepository;
     private final UserRoleRepository userRoleRepository;
+    private final SingleFlight<Long, Role> roleLookups;
 
     public RoleService(RoleRepository roleRepository, UserRoleRepository userRoleRepository) {
         this.roleRepository = roleRepository;
         this.userRoleRepository = userRoleRepository;
+        this.roleLookups = new SingleFlight<>("roles.by-id", Metrics.globalRegistry);
     }
 
     /**
      * Returns all available roles.
      */
     public Flux<Role> getAllRoles() {
-        return roleRepository.findAll();
+        return ReadWriteRouting.readOnly(roleRepository.findAll());
     }
 
     /**
      * Retrieves a role by its identifier.
+     * Concurrent lookups for the same id share a single query.
      * Emits a {@link RuntimeException} if the role does not exist.
      */
     public Mono<Role> getRoleById(Long id) {
-        return roleRepository.findById(id)
+        return roleLookups.execute(id, () -> ReadWriteRouting.readOnly(roleRepository.findById(id)))
                 .switchIfEmpty(Mono.error(new RuntimeException("Role not found with id: " + id)));
     }
 
@@ -50,15 +65,58 @@ public class RoleService {
      * Emits a {@link RuntimeException} if the role does not exist.
      */
     public Mono<Role> getRoleByName(String name) {
-        return roleRepository.findByName(name)
+        return ReadWriteRouting.readOnly(roleRepository.findByName(name))
                 .switchIfEmpty(Mono.error(new RuntimeException("Role not found with name: " + name)));
     }
 
+    /**
+     * Returns the catalog-wide role version, bumped whenever a role is created.
+     */
+    public Mono<Long> getCatalogVersion() {
+        return ReadWriteRouting.readOnly(roleRepository.findCatalogVersion());
+    }
+
+    /**
+     * Lists the ids of the roles assigned to a user, in ascending order, without
+     * joining the roles table.
+     */
+    public Flux<Long> getUserRoleIds(Long userId) {
+        return ReadWriteRouting.readOnly(userRoleRepository.findRoleIdsByUserId(userId));
+    }
+
     /**
      * Lists all roles assigned to the specified user.
      */
     public Flux<Role> getUserRoles(Long userId) {
-        return roleRepository.findByUserId(userId);
+        return ReadWriteRouting.readOnly(roleRepository.findByUserId(userId));
+    }
+
+    /**
+     * Lists a page of users with their roles, ordered by user id.
+     *
+     * Uses keyset pagination: pass the last id of the previous page as
+     * {@code afterId} (0 for the first page). Users and roles come from one join
+     * query; adjacent rows are grouped per user as they stream in.
+     */
+    public Flux<UserWithRoles> getUsersWithRoles(long afterId, int size) {
+        return ReadWriteRouting.readOnly(userRoleRepository.findUsersWithRoles(afterId, size))
+                .bufferUntilChanged(UserRoleRow::userId)
+                .map(RoleService::toUserWithRoles);
+    }
+
+    private static UserWithRoles toUserWithRoles(List<UserRoleRow> rows) {
+        UserRoleRow first = rows.get(0);
+        List<Role> roles = new ArrayList<>(rows.size());
+        for (UserRoleRow row : rows) {
+            // A user without roles yields a single row with null role columns
+            if (row.roleId() != null) {
+                Role role = new Role(row.roleName(), row.roleDescription());
+                role.setId(row.roleId());
+                roles.add(role);
+            }
+        }
+        return new UserWithRoles(first.userId(), first.name(), first.email(), first.department(),
+                first.enabled(), roles);
     }
 
     /**
@@ -88,7 +146,9 @@ public class RoleService {
     /**
      * Creates a new role, ensuring uniqueness by role name.
      * Emits a {@link RuntimeException} if a role with the same name already exists.
+     * The catalog version is bumped in the same transaction as the insert.
      */
+    @Transactional
     public Mono<Role> createRole(Role role) {
         return roleRepository.findByName(role.getName())
                 .hasElement()
@@ -96,7 +156,8 @@ public class RoleService {
                     if (exists) {
                         return Mono.error(new RuntimeException("Role already exists with name: " + role.getName()));
                     }
-                    return roleRepository.save(role);
+                    return roleRepository.save(role)
+                            .flatMap(savedRole -> roleRepository.incrementCatalogVersion().thenReturn(savedRole));
                 });
     }
 }
\ No newline at end of file
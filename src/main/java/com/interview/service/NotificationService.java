@@ -1,44 +1,111 @@
 package com.interview.service;
 
+import com.interview.service.notification.DeliveryResult;
+import com.interview.service.notification.Notification;
+import com.interview.service.notification.NotificationCoalescer;
+import com.interview.service.notification.NotificationDispatcher;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Service
 /**
  * Asynchronous notification operations using Project Reactor.
  *
- * Simulates sending notifications in a non-blocking way. In a real system this
- * would integrate with an email/SMS/push provider.
+ * Delivery goes through {@link NotificationDispatcher}, which batches, rate-limits
+ * and retries calls to the configured notification provider. Repeated notifications
+ * to the same recipient are collapsed first by {@link NotificationCoalescer}.
  */
 public class NotificationService {
-    
+
+    private final NotificationDispatcher dispatcher;
+    private final NotificationCoalescer coalescer;
+    private final Timer sent;
+    private final Timer failed;
+
+    public NotificationService(NotificationDispatcher dispatcher, NotificationCoalescer coalescer) {
+        this.dispatcher = dispatcher;
+        this.coalescer = coalescer;
+        this.sent = sendTimer("sent");
+        this.failed = sendTimer("failed");
+    }
+
+    private static Timer sendTimer(String outcome) {
+        return Timer.builder("notifications.send")
+                .description("Time from a send call to each notification's result, including coalescing and retries")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
+
     /**
      * Sends a single welcome notification to the given email.
      *
-     * The operation is simulated via a delayed Mono to emulate async I/O. Logs are
-     * emitted on success or failure for observability.
+     * Identical requests within the coalescing window share one send. Errors if the
+     * provider did not accept the notification after retries.
      */
     public Mono<String> sendWelcomeNotification(String email) {
-        return Mono.fromCallable(() -> {
-            // Simulate async notification sending
-            System.out.println("Sending welcome notification to: " + email);
-            return "Notification sent to " + email;
-        })
-        .delayElement(Duration.ofMillis(500))
-        .doOnSuccess(result -> System.out.println("Notification completed: " + result))
-        .doOnError(error -> System.err.println("Notification failed: " + error.getMessage()));
-    }
-    
+        return send(Notification.welcome(email));
+    }
+
+    /**
+     * Sends a single notification of any type, with the same coalescing and error
+     * semantics as {@link #sendWelcomeNotification(String)}.
+     */
+    public Mono<String> send(Notification notification) {
+        String email = notification.recipient();
+        return timed(coalescer.submit(notification).flux())
+                .next()
+                .flatMap(result -> result.sent()
+                        ? Mono.just("Notification sent to " + email)
+                        : Mono.error(new RuntimeException("Notification to " + email + " failed: " + result.error())))
+                .doOnError(error -> System.err.println("Notification failed: " + error.getMessage()));
+    }
+
+    /**
+     * Sends welcome notifications to a collection of email addresses as one stream,
+     * without waiting out a coalescing window, and streams one result per distinct
+     * address as batches complete.
+     */
+    public Flux<DeliveryResult> sendWelcomeNotifications(List<String> emails) {
+        return timed(dispatcher.dispatch(coalescer.distinct(Flux.fromIterable(emails).map(Notification::welcome))));
+    }
+
+    /**
+     * Sends notifications of any type through the coalescing window and streams one
+     * result per distinct notification as windows close.
+     *
+     * A notification joins a window opened by an earlier call for the same recipient
+     * and shares its send; windows closing together reach the provider in shared
+     * batches.
+     */
+    public Flux<DeliveryResult> sendAll(List<Notification> notifications) {
+        return timed(coalescer.distinct(Flux.fromIterable(notifications))
+                // Every window opens now rather than as earlier ones close
+                .flatMap(coalescer::submit, Math.max(1, notifications.size())));
+    }
+
+    // Records each result in notifications.send, measured from subscription
+    private Flux<DeliveryResult> timed(Flux<DeliveryResult> results) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return results.doOnNext(result -> (result.sent() ? sent : failed)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
     /**
      * Sends notifications to a collection of email addresses.
      *
-     * Returns a completion signal when all notifications have been processed.
+     * Returns a completion signal when all notifications have been processed;
+     * use {@link #sendWelcomeNotifications(List)} for per-recipient outcomes.
      */
-    public Mono<Void> sendBulkNotifications(java.util.List<String> emails) {
-        return reactor.core.publisher.Flux.fromIterable(emails)
-                .flatMap(this::sendWelcomeNotification)
-                .then();
+    public Mono<Void> sendBulkNotifications(List<String> emails) {
+        return sendWelcomeNotifications(emails).then();
     }
 }
\ No newline at end of file
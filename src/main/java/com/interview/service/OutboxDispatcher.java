@@ -0,0 +1,271 @@
+package com.interview.service;
+
+import com.interview.model.OutboxMessage;
+import com.interview.model.OutboxStats;
+import com.interview.repository.OutboxRepository;
+import com.interview.repository.sharding.UserShards;
+import com.interview.service.notification.DeliveryResult;
+import com.interview.service.notification.Notification;
+import com.interview.support.Sharding;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers notifications queued in the notification outbox.
+ *
+ * Every poll interval, for each database holding an outbox:
+ * - claims up to {@code batch-size} due rows with a single UPDATE (a lease, so a
+ *   crashed dispatcher's rows are picked up again once it expires)
+ * - sends them through the coalescing window, so repeats claimed by later polls
+ *   while it is open share one send, and windows closing together reach the
+ *   provider in provider-sized batches
+ * - deletes the sent rows in one statement; failed rows are retried with
+ *   exponential backoff and jitter until {@code max-attempts}, then marked failed,
+ *   with at most {@code concurrency} of those updates in flight
+ * - keeps claiming while batches come back full
+ *
+ * A pass waits for its windows to close, so up to {@code passes-in-flight} passes
+ * run at once; the leases keep them from claiming the same rows.
+ *
+ * Metrics: {@code outbox.depth} (pending rows), {@code outbox.lag} (age of the
+ * oldest pending row) and {@code outbox.dispatched} tagged by outcome.
+ */
+@Service
+public class OutboxDispatcher implements SmartLifecycle {
+
+    private final OutboxRepository outboxRepository;
+    private final NotificationService notificationService;
+    private final List<Integer> shards;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    @Value("${app.outbox.poll-interval:1s}")
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    @Value("${app.outbox.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${app.outbox.concurrency:16}")
+    private int concurrency = 16;
+
+    @Value("${app.outbox.passes-in-flight:4}")
+    private int passesInFlight = 4;
+
+    @Value("${app.outbox.max-attempts:8}")
+    private int maxAttempts = 8;
+
+    @Value("${app.outbox.lease:30s}")
+    private Duration lease = Duration.ofSeconds(30);
+
+    @Value("${app.outbox.send-timeout:10s}")
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    @Value("${app.outbox.initial-backoff:1s}")
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    @Value("${app.outbox.max-backoff:5m}")
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    private volatile Disposable polling;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository, NotificationService notificationService,
+                            ObjectProvider<UserShards> userShards) {
+        this.outboxRepository = outboxRepository;
+        this.notificationService = notificationService;
+        // With sharding every shard has its own outbox, written alongside its users
+        UserShards sharded = userShards.getIfAvailable();
+        this.shards = sharded != null ? sharded.shards() : List.of(Sharding.DEFAULT_SHARD);
+
+        Gauge.builder("outbox.depth", depth, AtomicLong::get)
+                .description("Outbox messages waiting to be sent")
+                .register(Metrics.globalRegistry);
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest outbox message waiting to be sent")
+                .register(Metrics.globalRegistry);
+        this.sent = dispatched("sent");
+        this.retried = dispatched("retried");
+        this.failed = dispatched("failed");
+    }
+
+    private static Counter dispatched(String outcome) {
+        return Counter.builder("outbox.dispatched")
+                .description("Outbox delivery attempts")
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void start() {
+        polling = Flux.interval(pollInterval)
+                // Ticks beyond passes-in-flight are skipped instead of queued
+                .onBackpressureDrop()
+                .flatMap(tick -> dispatchAll()
+                        .onErrorResume(error -> {
+                            System.err.println("Outbox dispatch failed: " + error.getMessage());
+                            return Mono.empty();
+                        }), passesInFlight)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = polling;
+        if (current != null) {
+            current.dispose();
+        }
+        polling = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return polling != null && !polling.isDisposed();
+    }
+
+    /**
+     * One full pass: drains every outbox, then refreshes the depth and lag gauges.
+     */
+    public Mono<Void> dispatchAll() {
+        return Flux.fromIterable(shards)
+                .concatMap(this::drain)
+                .then(refreshStats());
+    }
+
+    private Mono<Void> drain(int shard) {
+        return dispatchBatch(shard)
+                .expand(claimed -> claimed == batchSize ? dispatchBatch(shard) : Mono.empty())
+                .then();
+    }
+
+    private Mono<Integer> dispatchBatch(int shard) {
+        // Only has to be unique, so no SecureRandom (which may block on the entropy source)
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = new UUID(random.nextLong(), random.nextLong()).toString();
+        LocalDateTime now = LocalDateTime.now();
+        return Sharding.onShard(shard, outboxRepository.claimBatch(token, now, now.plus(lease), batchSize))
+                .filter(claimed -> claimed > 0)
+                .flatMap(claimed -> Sharding.onShard(shard, outboxRepository.findByClaimToken(token))
+                        .collectList()
+                        .flatMap(messages -> deliver(shard, messages))
+                        .thenReturn(claimed))
+                .defaultIfEmpty(0);
+    }
+
+    /**
+     * Sends a claimed batch through the coalescing window. Rows for the same recipient
+     * and type share one send, with each other and with rows of other passes while the
+     * window is open. Sent rows are deleted; rows that failed, or got no result within
+     * {@code send-timeout} (which must exceed the window), are rescheduled or failed.
+     */
+    private Mono<Void> deliver(int shard, List<OutboxMessage> messages) {
+        Map<Notification, List<OutboxMessage>> byNotification = messages.stream()
+                .collect(Collectors.groupingBy(message -> new Notification(message.getType(), message.getRecipient()),
+                        LinkedHashMap::new, Collectors.toList()));
+        return notificationService.sendAll(List.copyOf(byNotification.keySet()))
+                .take(sendTimeout)
+                .collectMap(DeliveryResult::notification)
+                .onErrorResume(error -> {
+                    System.err.println("Outbox batch send failed: " + error.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .flatMap(results -> {
+                    List<Long> sentIds = new ArrayList<>();
+                    List<Mono<Integer>> failures = new ArrayList<>();
+                    byNotification.forEach((notification, rows) -> {
+                        DeliveryResult result = results.get(notification);
+                        for (OutboxMessage row : rows) {
+                            if (result != null && result.sent()) {
+                                sent.increment();
+                                sentIds.add(row.getId());
+                            } else {
+                                failures.add(handleFailure(row, result != null
+                                        ? result.error() : "No result within " + sendTimeout));
+                            }
+                        }
+                    });
+                    return Flux.fromIterable(failures)
+                            .flatMap(failure -> Sharding.onShard(shard, failure), concurrency)
+                            .then(sentIds.isEmpty()
+                                    ? Mono.empty()
+                                    : Sharding.onShard(shard, outboxRepository.deleteSent(sentIds)))
+                            .then();
+                });
+    }
+
+    private Mono<Integer> handleFailure(OutboxMessage message, String error) {
+        String reason = truncate(String.valueOf(error));
+        // attempts was incremented when the row was claimed
+        if (message.getAttempts() >= maxAttempts) {
+            failed.increment();
+            return outboxRepository.markFailed(message.getId(), LocalDateTime.now(), reason);
+        }
+        retried.increment();
+        return outboxRepository.reschedule(message.getId(),
+                LocalDateTime.now().plus(backoff(message.getAttempts())), reason);
+    }
+
+    /**
+     * Exponential backoff for the given attempt number (1-based), capped at
+     * {@code max-backoff}, with up to 20% jitter so failed batches do not retry in lockstep.
+     */
+    Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long jitter = (long) (capped * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(capped + jitter);
+    }
+
+    private Mono<Void> refreshStats() {
+        return Flux.fromIterable(shards)
+                .concatMap(shard -> Sharding.onShard(shard, outboxRepository.findStats()))
+                .collectList()
+                .doOnNext(this::record)
+                .then();
+    }
+
+    private void record(List<OutboxStats> stats) {
+        depth.set(stats.stream().mapToLong(OutboxStats::depth).sum());
+        LocalDateTime now = LocalDateTime.now();
+        lagMillis.set(stats.stream()
+                .filter(s -> s.oldestCreatedAt() != null)
+                .mapToLong(s -> Math.max(0, Duration.between(s.oldestCreatedAt(), now).toMillis()))
+                .max()
+                .orElse(0));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    long depth() {
+        return depth.get();
+    }
+
+    long lagMillis() {
+        return lagMillis.get();
+    }
+}
\ No newline at end of file
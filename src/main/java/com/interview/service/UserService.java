@@ -1,44 +1,103 @@
 package com.interview.service;
 
+import com.interview.dto.UserBatchResponse;
+import com.interview.model.OutboxMessage;
 import com.interview.model.User;
+import com.interview.model.UserSummary;
+import com.interview.repository.OutboxRepository;
 import com.interview.repository.UserRepository;
+import com.interview.repository.UserTransactions;
+import com.interview.support.ReadWriteRouting;
+import com.interview.support.SingleFlight;
+import io.micrometer.core.instrument.Metrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class UserService {
     
+    // Ids per IN-query when streaming a batch lookup
+    static final int STREAM_CHUNK_SIZE = 100;
+    
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final OutboxRepository outboxRepository;
+    private final UserTransactions userTransactions;
+    private final SingleFlight<Long, UserSummary> userLookups;
     
     // Constructor injection (preferred over field injection)
     @Autowired
-    public UserService(UserRepository userRepository, NotificationService notificationService) {
+    public UserService(UserRepository userRepository, OutboxRepository outboxRepository,
+                       UserTransactions userTransactions) {
         this.userRepository = userRepository;
-        this.notificationService = notificationService;
+        this.outboxRepository = outboxRepository;
+        this.userTransactions = userTransactions;
+        this.userLookups = new SingleFlight<>("users.by-id", Metrics.globalRegistry);
     }
     
     // Mono examples - single value operations
+    // The welcome notification is queued in the user's transaction (transactional outbox)
+    // and delivered by OutboxDispatcher, so it survives crashes and is sent with bounded concurrency
     public Mono<User> createUser(User user) {
-        return userRepository.save(user)
-                .doOnSuccess(savedUser -> 
-                    notificationService.sendWelcomeNotification(savedUser.getEmail())
-                        .subscribe() // Fire and forget
-                )
+        return userTransactions.inTransactionForNewUser(user, () -> userRepository.save(user)
+                        .flatMap(savedUser -> outboxRepository.save(OutboxMessage.welcome(savedUser.getEmail()))
+                                .thenReturn(savedUser)))
                 .doOnError(error -> 
                     System.err.println("Error creating user: " + error.getMessage())
                 );
     }
     
-    public Mono<User> getUserById(Long id) {
-        return userRepository.findById(id)
+    // Concurrent lookups for the same id share a single query
+    public Mono<UserSummary> getUserById(Long id) {
+        return userLookups.execute(id, () -> ReadWriteRouting.readOnly(userRepository.findSummaryById(id)))
                 .switchIfEmpty(Mono.error(new RuntimeException("User not found with id: " + id)));
     }
     
+    // Row version only; lets conditional GETs answer 304 without loading the row
+    public Mono<Long> getUserVersion(Long id) {
+        return ReadWriteRouting.readOnly(userRepository.findVersionById(id));
+    }
+    
+    // Batch lookup: a single IN-query, results in request order, missing ids reported
+    public Mono<UserBatchResponse> getUsersByIds(List<Long> ids) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        return findInRequestOrder(distinctIds, distinctIds.size())
+                .collectList()
+                .map(users -> {
+                    Set<Long> foundIds = users.stream().map(UserSummary::id).collect(Collectors.toSet());
+                    List<Long> missingIds = distinctIds.stream()
+                            .filter(id -> !foundIds.contains(id))
+                            .toList();
+                    return new UserBatchResponse(users, missingIds);
+                });
+    }
+    
+    // Streaming variant for large batches: one IN-query per chunk, emitted as each chunk resolves
+    public Flux<UserSummary> streamUsersByIds(List<Long> ids) {
+        return findInRequestOrder(List.copyOf(new LinkedHashSet<>(ids)), STREAM_CHUNK_SIZE);
+    }
+    
+    private Flux<UserSummary> findInRequestOrder(List<Long> ids, int chunkSize) {
+        return Flux.fromIterable(ids)
+                .buffer(Math.max(chunkSize, 1))
+                .concatMap(chunk -> ReadWriteRouting.readOnly(userRepository.findSummariesByIdIn(chunk))
+                        .collectMap(UserSummary::id)
+                        .flatMapIterable(found -> reorder(chunk, found)));
+    }
+    
+    private static List<UserSummary> reorder(List<Long> ids, Map<Long, UserSummary> found) {
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+    
     public Mono<User> updateUser(Long id, User user) {
         return userRepository.findById(id)
                 .switchIfEmpty(Mono.error(new RuntimeException("User not found")))
@@ -58,31 +117,32 @@ public class UserService {
     }
     
     // Flux examples - multiple value operations
-    public Flux<User> getAllUsers() {
-        return userRepository.findAll()
+    // Read paths use the password-free UserSummary projection and may be served by a replica
+    public Flux<UserSummary> getAllUsers() {
+        return ReadWriteRouting.readOnly(userRepository.findAllSummaries())
                 .delayElements(Duration.ofMillis(100)); // Simulate processing delay
     }
     
-    public Flux<User> getUsersByDepartment(String department) {
-        return userRepository.findByDepartment(department)
-                .filter(user -> user.getName() != null && !user.getName().isEmpty());
+    public Flux<UserSummary> getUsersByDepartment(String department) {
+        return ReadWriteRouting.readOnly(userRepository.findSummariesByDepartment(department))
+                .filter(user -> user.name() != null && !user.name().isEmpty());
     }
     
-    public Flux<User> searchUsersByName(String namePattern) {
-        return userRepository.findByNamePattern("%" + namePattern + "%")
+    public Flux<UserSummary> searchUsersByName(String namePattern) {
+        return ReadWriteRouting.readOnly(userRepository.findSummariesByNamePattern("%" + namePattern + "%"))
                 .take(10); // Limit results
     }
     
     // Advanced reactive operations
     public Flux<String> getUserEmailsByDepartment(String department) {
-        return userRepository.findByDepartment(department)
-                .map(User::getEmail)
+        return ReadWriteRouting.readOnly(userRepository.findSummariesByDepartment(department))
+                .map(UserSummary::email)
                 .distinct()
                 .sort();
     }
     
     public Mono<Long> getUserCountByDepartment(String department) {
-        return userRepository.countByDepartment(department);
+        return ReadWriteRouting.readOnly(userRepository.countByDepartment(department));
     }
     
     // Demonstrating error handling and fallbacks
@@ -0,0 +1,70 @@
+package com.interview.service.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template parsed once into a render plan: the literal text between variables and
+ * the variable names, in order.
+ *
+ * Syntax: {@code {{name}}} is replaced by the value of {@code name}; everything else
+ * is copied as is. Rendering appends to a caller-supplied buffer, so a bulk send can
+ * reuse one buffer for every recipient.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, open));
+            variables.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    /**
+     * Appends the rendered template to {@code out}.
+     */
+    public void renderTo(StringBuilder out, TemplateValues values) {
+        out.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            CharSequence value = values.get(variables[i]);
+            if (value != null) {
+                out.append(value);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    public String render(TemplateValues values) {
+        StringBuilder out = new StringBuilder(literalLength + 32 * variables.length);
+        renderTo(out, values);
+        return out.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.interview.service.notification;
+
+/**
+ * Outcome of delivering one notification.
+ *
+ * {@code attempts} counts provider calls for the batch the notification was sent in;
+ * {@code error} is only set when the notification was not delivered.
+ */
+public record DeliveryResult(Notification notification, boolean sent, int attempts, String error) {
+
+    public static DeliveryResult sent(Notification notification, int attempts) {
+        return new DeliveryResult(notification, true, attempts, null);
+    }
+
+    public static DeliveryResult failed(Notification notification, int attempts, String error) {
+        return new DeliveryResult(notification, false, attempts, error);
+    }
+
+    public String recipient() {
+        return notification.recipient();
+    }
+}
\ No newline at end of file
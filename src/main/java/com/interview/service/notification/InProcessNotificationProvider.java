@@ -0,0 +1,65 @@
+package com.interview.service.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in provider that "delivers" notifications in process.
+ *
+ * Each batch takes {@code latency} and fails transiently with probability
+ * {@code failure-rate}, so dispatch throughput and retry behaviour can be
+ * exercised locally without an external service.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.notifications", name = "provider", havingValue = "in-process", matchIfMissing = true)
+public class InProcessNotificationProvider implements NotificationProvider {
+
+    private final Duration latency;
+    private final double failureRate;
+    private final int maxBatchSize;
+    private final AtomicLong delivered = new AtomicLong();
+
+    public InProcessNotificationProvider(@Value("${app.notifications.in-process.latency:500ms}") Duration latency,
+                                         @Value("${app.notifications.in-process.failure-rate:0.0}") double failureRate,
+                                         @Value("${app.notifications.in-process.max-batch-size:50}") int maxBatchSize) {
+        this.latency = latency;
+        this.failureRate = failureRate;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public String name() {
+        return "in-process";
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public Mono<Void> send(List<RenderedNotification> batch) {
+        Mono<Void> outcome = Mono.defer(() -> {
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                return Mono.error(new TransientDeliveryException("Simulated provider failure"));
+            }
+            delivered.addAndGet(batch.size());
+            return Mono.empty();
+        });
+        return latency.isZero() ? outcome : Mono.delay(latency).then(outcome);
+    }
+
+    /**
+     * Notifications accepted so far.
+     */
+    public long deliveredCount() {
+        return delivered.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.interview.service.notification;
+
+import java.util.Locale;
+
+/**
+ * A single message to deliver to one recipient.
+ *
+ * {@code locale} selects the template variant; null means the configured default.
+ */
+public record Notification(String type, String recipient, Locale locale) {
+
+    public static final String WELCOME = "WELCOME";
+    public static final String ROLE_CHANGED = "ROLE_CHANGED";
+    public static final String PASSWORD_RESET = "PASSWORD_RESET";
+
+    public Notification(String type, String recipient) {
+        this(type, recipient, null);
+    }
+
+    public static Notification welcome(String email) {
+        return new Notification(WELCOME, email);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.interview.service.notification;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses repeated notifications to the same recipient before dispatch.
+ *
+ * The first notification to a recipient opens a window of {@code window}. Until it
+ * closes, further notifications of the same type join it and share its result;
+ * when it closes, one notification per distinct type is dispatched.
+ *
+ * Windows are closed by one shared ticker (every {@code window}, at most 100ms),
+ * and all windows that closed on a tick are dispatched as one stream, so they
+ * reach the provider in shared batches.
+ *
+ * Memory is bounded:
+ * - at most about {@code max-pending-recipients} windows are open; beyond that,
+ *   notifications skip coalescing and are dispatched straight away
+ * - a window holds one entry per distinct notification type
+ *
+ * A zero window disables coalescing. {@code notifications.coalesced} counts the
+ * sends saved.
+ */
+@Component
+public class NotificationCoalescer {
+
+    private static final Duration MAX_TICK = Duration.ofMillis(100);
+
+    private final NotificationDispatcher dispatcher;
+    private final Duration window;
+    private final int maxPendingRecipients;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    // Open windows in the order they close: every window lasts the same time
+    private final Queue<Window> closing = new ConcurrentLinkedQueue<>();
+    private final LongAdder saved = new LongAdder();
+    private volatile Disposable ticker;
+
+    public NotificationCoalescer(NotificationDispatcher dispatcher,
+                                 @Value("${app.notifications.coalescing.window:2s}") Duration window,
+                                 @Value("${app.notifications.coalescing.max-pending-recipients:10000}") int maxPendingRecipients) {
+        this.dispatcher = dispatcher;
+        this.window = window;
+        this.maxPendingRecipients = maxPendingRecipients;
+        FunctionCounter.builder("notifications.coalesced", saved, LongAdder::sum)
+                .description("Notifications merged into an identical pending one instead of being sent")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("notifications.coalescing.pending", windows, Map::size)
+                .description("Recipients with an open coalescing window")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Queues {@code notification} in its recipient's window and emits the result
+     * of the send it ends up part of.
+     */
+    public Mono<DeliveryResult> submit(Notification notification) {
+        if (window.isZero()) {
+            return dispatchNow(notification);
+        }
+        return Mono.defer(() -> {
+            String recipient = notification.recipient();
+            while (true) {
+                Window current = windows.get(recipient);
+                if (current == null) {
+                    if (windows.size() >= maxPendingRecipients) {
+                        return dispatchNow(notification);
+                    }
+                    Window opened = new Window(recipient, System.nanoTime() + window.toNanos());
+                    current = windows.putIfAbsent(recipient, opened);
+                    if (current == null) {
+                        current = opened;
+                        closing.add(opened);
+                        startTicker();
+                    }
+                }
+                Mono<DeliveryResult> result = current.join(notification);
+                if (result != null) {
+                    return result;
+                }
+                // Closed between lookup and join; closeDue() removes it, so retry with a fresh window
+                windows.remove(recipient, current);
+            }
+        });
+    }
+
+    /**
+     * Drops repeats within a single stream, such as a bulk request listing an
+     * address twice.
+     */
+    public Flux<Notification> distinct(Flux<Notification> notifications) {
+        return Flux.defer(() -> {
+            Set<Notification> seen = new HashSet<>();
+            return notifications.filter(notification -> {
+                if (seen.add(notification)) {
+                    return true;
+                }
+                saved.increment();
+                return false;
+            });
+        });
+    }
+
+    private Mono<DeliveryResult> dispatchNow(Notification notification) {
+        return dispatcher.dispatch(Flux.just(notification)).next();
+    }
+
+    private void startTicker() {
+        if (ticker == null) {
+            synchronized (this) {
+                if (ticker == null) {
+                    Duration tick = window.compareTo(MAX_TICK) < 0 ? window : MAX_TICK;
+                    ticker = Flux.interval(tick)
+                            .onBackpressureDrop()
+                            .subscribe(ignored -> closeDue());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = ticker;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    // Closes every window whose time is up and sends their notifications as one stream
+    private void closeDue() {
+        long now = System.nanoTime();
+        Map<Notification, List<Pending>> waiting = new LinkedHashMap<>();
+        Window due;
+        while ((due = closing.peek()) != null && due.closesAt - now <= 0) {
+            closing.poll();
+            windows.remove(due.recipient, due);
+            for (Pending pending : due.close().values()) {
+                waiting.computeIfAbsent(pending.notification(), key -> new ArrayList<>()).add(pending);
+            }
+        }
+        if (waiting.isEmpty()) {
+            return;
+        }
+        dispatcher.dispatch(Flux.fromIterable(waiting.keySet()))
+                .doOnNext(result -> waiting.getOrDefault(result.notification(), List.of())
+                        .forEach(pending -> pending.sink().tryEmitValue(result)))
+                .doOnError(error -> waiting.values().forEach(pendings -> pendings
+                        .forEach(pending -> pending.sink().tryEmitError(error))))
+                // A notification the dispatcher returned no result for must not leave its callers waiting
+                .doOnComplete(() -> waiting.values().forEach(pendings -> pendings
+                        .forEach(pending -> pending.sink().tryEmitError(
+                                new IllegalStateException("No delivery result for " + pending.notification())))))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
+    int pendingRecipients() {
+        return windows.size();
+    }
+
+    public double coalescedCount() {
+        return saved.sum();
+    }
+
+    private final class Window {
+
+        private final String recipient;
+        private final long closesAt;
+        private final Map<String, Pending> byType = new LinkedHashMap<>();
+        private boolean closed;
+
+        private Window(String recipient, long closesAt) {
+            this.recipient = recipient;
+            this.closesAt = closesAt;
+        }
+
+        /**
+         * Returns the result to wait for, or null if the window already closed.
+         */
+        private synchronized Mono<DeliveryResult> join(Notification notification) {
+            if (closed) {
+                return null;
+            }
+            // The first notification of a type is the one sent
+            Pending pending = byType.get(notification.type());
+            if (pending == null) {
+                pending = new Pending(notification, Sinks.one());
+                byType.put(notification.type(), pending);
+            } else {
+                saved.increment();
+            }
+            return pending.sink().asMono();
+        }
+
+        private synchronized Map<String, Pending> close() {
+            closed = true;
+            return byType;
+        }
+    }
+
+    private record Pending(Notification notification, Sinks.One<DeliveryResult> sink) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.interview.service.notification;
+
+import com.interview.monitoring.NotificationBatchEvent;
+import com.interview.support.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers notifications through the configured {@link NotificationProvider}.
+ *
+ * - renders each notification's body from its precompiled template; one that
+ *   cannot be rendered fails alone and the rest of its batch is still sent
+ * - groups notifications into batches of {@code batch-size}, capped at the
+ *   provider's own limit
+ * - keeps at most {@code concurrency} batches in flight
+ * - spaces provider calls to {@code rate-limit} notifications per second (0 disables)
+ * - retries transient failures and timeouts with jittered exponential backoff,
+ *   up to {@code max-retries} times per batch
+ *
+ * Results are streamed per recipient as batches complete, so callers see
+ * failures without the whole dispatch erroring.
+ */
+@Service
+public class NotificationDispatcher {
+
+    private final NotificationProvider provider;
+    private final NotificationTemplates templates;
+    private final RateLimiter rateLimiter;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter retried;
+
+    @Value("${app.notifications.dispatch.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${app.notifications.dispatch.concurrency:4}")
+    private int concurrency = 4;
+
+    @Value("${app.notifications.dispatch.max-retries:3}")
+    private int maxRetries = 3;
+
+    @Value("${app.notifications.dispatch.initial-backoff:200ms}")
+    private Duration initialBackoff = Duration.ofMillis(200);
+
+    @Value("${app.notifications.dispatch.max-backoff:5s}")
+    private Duration maxBackoff = Duration.ofSeconds(5);
+
+    @Value("${app.notifications.dispatch.send-timeout:10s}")
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    public NotificationDispatcher(NotificationProvider provider, NotificationTemplates templates,
+                                  @Value("${app.notifications.dispatch.rate-limit:200}") double rateLimit) {
+        this.provider = provider;
+        this.templates = templates;
+        this.rateLimiter = new RateLimiter(rateLimit);
+        this.sent = dispatched("sent");
+        this.failed = dispatched("failed");
+        this.retried = Counter.builder("notifications.retries")
+                .description("Provider calls retried after a transient failure")
+                .tag("provider", provider.name())
+                .register(Metrics.globalRegistry);
+    }
+
+    private Counter dispatched(String outcome) {
+        return Counter.builder("notifications.dispatched")
+                .description("Notifications handed to the provider, by final outcome")
+                .tag("provider", provider.name())
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Sends every notification and emits one result per notification.
+     */
+    public Flux<DeliveryResult> dispatch(Flux<Notification> notifications) {
+        int size = Math.max(1, Math.min(batchSize, provider.maxBatchSize()));
+        return notifications
+                .buffer(size)
+                .flatMap(this::sendBatch, concurrency);
+    }
+
+    // Notifications that cannot be rendered fail on their own; the rest of the batch is still sent
+    private Flux<DeliveryResult> sendBatch(List<Notification> batch) {
+        return Flux.defer(() -> {
+            List<DeliveryResult> unrenderable = new ArrayList<>();
+            List<RenderedNotification> rendered = render(batch, unrenderable);
+            failed.increment(unrenderable.size());
+            return Flux.fromIterable(unrenderable)
+                    .concatWith(rendered.isEmpty() ? Flux.empty() : deliver(rendered));
+        });
+    }
+
+    private Flux<DeliveryResult> deliver(List<RenderedNotification> batch) {
+        AtomicInteger attempts = new AtomicInteger();
+        NotificationBatchEvent event = new NotificationBatchEvent();
+        return Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    // Retries count against the rate limit as well
+                    return rateLimiter.acquire(batch.size())
+                            .then(provider.send(batch).timeout(sendTimeout));
+                })
+                .doOnSubscribe(subscription -> event.begin())
+                .retryWhen(Retry.backoff(maxRetries, initialBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(0.5)
+                        .filter(NotificationDispatcher::isTransient)
+                        .doBeforeRetry(signal -> retried.increment()))
+                .then(Mono.fromCallable(() -> {
+                    sent.increment(batch.size());
+                    return batch.stream().map(n -> DeliveryResult.sent(n.notification(), attempts.get())).toList();
+                }))
+                .onErrorResume(error -> Mono.fromCallable(() -> {
+                    failed.increment(batch.size());
+                    Throwable cause = Exceptions.isRetryExhausted(error) ? error.getCause() : error;
+                    String reason = String.valueOf(cause.getMessage());
+                    return batch.stream()
+                            .map(n -> DeliveryResult.failed(n.notification(), attempts.get(), reason))
+                            .toList();
+                }))
+                .doOnNext(results -> {
+                    event.provider = provider.name();
+                    event.batchSize = batch.size();
+                    event.attempts = attempts.get();
+                    event.outcome = results.get(0).sent() ? "sent" : "failed";
+                    event.commit();
+                })
+                .flatMapIterable(results -> results);
+    }
+
+    // Rendered once per batch, before any retries, through a single reused buffer
+    private List<RenderedNotification> render(List<Notification> batch, List<DeliveryResult> unrenderable) {
+        StringBuilder buffer = new StringBuilder(256);
+        List<RenderedNotification> rendered = new ArrayList<>(batch.size());
+        for (Notification notification : batch) {
+            buffer.setLength(0);
+            try {
+                templates.renderTo(buffer, notification);
+                rendered.add(new RenderedNotification(notification, buffer.toString()));
+            } catch (RuntimeException e) {
+                unrenderable.add(DeliveryResult.failed(notification, 0, String.valueOf(e.getMessage())));
+            }
+        }
+        return rendered;
+    }
+
+    private static boolean isTransient(Throwable error) {
+        return error instanceof TransientDeliveryException || error instanceof TimeoutException;
+    }
+}
\ No newline at end of file
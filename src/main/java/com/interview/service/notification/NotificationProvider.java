@@ -0,0 +1,25 @@
+package com.interview.service.notification;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * SPI for the service that actually delivers notifications (email, SMS, push).
+ *
+ * {@link NotificationDispatcher} hands a provider batches of at most
+ * {@link #maxBatchSize()} notifications with their bodies already rendered. A batch either completes or fails as a whole:
+ * - {@link TransientDeliveryException} (and timeouts) are retried with backoff
+ * - any other error fails every notification in the batch without retrying
+ *
+ * Exactly one provider bean is expected; {@code app.notifications.provider} selects
+ * the built-in in-process stand-in ({@code in-process}, the default).
+ */
+public interface NotificationProvider {
+
+    String name();
+
+    int maxBatchSize();
+
+    Mono<Void> send(List<RenderedNotification> batch);
+}
\ No newline at end of file
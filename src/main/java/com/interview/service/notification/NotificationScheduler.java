@@ -0,0 +1,210 @@
+package com.interview.service.notification;
+
+import com.interview.model.OutboxMessage;
+import com.interview.model.ScheduledNotification;
+import com.interview.repository.OutboxRepository;
+import com.interview.repository.ScheduledNotificationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends notifications at a later time.
+ *
+ * Scheduled notifications are stored in {@code scheduled_notification}, so they
+ * survive restarts. Only the ones due within {@code horizon} are held in memory, as
+ * entries of a hashed timer wheel (O(1) to arm and cancel, one thread ticking every
+ * {@code tick-duration} instead of one timer task per notification). A loader arms
+ * the next slice every half horizon; rows overdue at startup fire on the first tick.
+ *
+ * When a timer fires, the row is deleted and an outbox row inserted in one
+ * transaction, so delivery gets the outbox's retries and only one instance sends it.
+ *
+ * Metrics: {@code notifications.scheduled.lag} (fire time minus due time) and
+ * {@code notifications.scheduled.armed}.
+ */
+@Service
+public class NotificationScheduler implements SmartLifecycle {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ScheduledNotificationRepository scheduledRepository;
+    private final OutboxRepository outboxRepository;
+    private final NotificationTemplates templates;
+    private final TransactionalOperator transactionalOperator;
+    private final ConcurrentMap<Long, Timeout> armed = new ConcurrentHashMap<>();
+    private final Timer lag;
+
+    @Value("${app.notifications.scheduler.tick-duration:100ms}")
+    private Duration tickDuration = Duration.ofMillis(100);
+
+    @Value("${app.notifications.scheduler.wheel-size:512}")
+    private int wheelSize = 512;
+
+    @Value("${app.notifications.scheduler.horizon:10m}")
+    private Duration horizon = Duration.ofMinutes(10);
+
+    @Value("${app.notifications.scheduler.retry-delay:5s}")
+    private Duration retryDelay = Duration.ofSeconds(5);
+
+    private volatile HashedWheelTimer wheel;
+    private volatile Disposable loading;
+    // Everything due before this has been armed (or will be by the load in progress)
+    private volatile LocalDateTime armedUntil = EPOCH;
+
+    // Pinned to R2DBC: the move from scheduled_notification to the outbox must share
+    // one transaction, and the scheduled-notification repository is R2DBC only
+    public NotificationScheduler(ScheduledNotificationRepository scheduledRepository,
+                                 @Qualifier("outboxRepository") OutboxRepository outboxRepository,
+                                 NotificationTemplates templates,
+                                 @Qualifier("transactionManager") ReactiveTransactionManager transactionManager) {
+        this.scheduledRepository = scheduledRepository;
+        this.outboxRepository = outboxRepository;
+        this.templates = templates;
+        this.transactionalOperator = TransactionalOperator.create(transactionManager);
+        this.lag = Timer.builder("notifications.scheduled.lag")
+                .description("Delay between a scheduled notification's due time and it being queued for delivery")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("notifications.scheduled.armed", armed, Map::size)
+                .description("Scheduled notifications held in the timer wheel")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void start() {
+        wheel = new HashedWheelTimer(runnable -> {
+            Thread thread = new Thread(runnable, "notification-timer");
+            thread.setDaemon(true);
+            return thread;
+        }, tickDuration.toNanos(), TimeUnit.NANOSECONDS, wheelSize);
+        loading = Flux.interval(Duration.ZERO, horizon.dividedBy(2))
+                .onBackpressureDrop()
+                .concatMap(tick -> loadNextSlice()
+                        .onErrorResume(error -> {
+                            System.err.println("Loading scheduled notifications failed: " + error.getMessage());
+                            return Mono.empty();
+                        }), 0)
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = loading;
+        if (current != null) {
+            current.dispose();
+        }
+        HashedWheelTimer timer = wheel;
+        if (timer != null) {
+            timer.stop();
+        }
+        armed.clear();
+        armedUntil = EPOCH;
+        loading = null;
+        wheel = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return wheel != null;
+    }
+
+    /**
+     * Persists {@code notification} and arms it if it falls within the horizon.
+     * Errors with {@link IllegalArgumentException} if no template exists for its type,
+     * which would otherwise only surface when it is sent.
+     */
+    public Mono<ScheduledNotification> schedule(ScheduledNotification notification) {
+        if (!templates.exists(notification.getType())) {
+            return Mono.error(new IllegalArgumentException("No notification template for type " + notification.getType()));
+        }
+        notification.setId(null);
+        notification.setCreatedAt(LocalDateTime.now());
+        return scheduledRepository.save(notification)
+                .doOnNext(saved -> {
+                    // The loader moves armedUntil before it queries, so a row inserted
+                    // concurrently is armed by one side or both, never neither
+                    if (saved.getDueAt().isBefore(armedUntil)) {
+                        arm(saved);
+                    }
+                });
+    }
+
+    /**
+     * Cancels a pending notification; emits false if it was unknown or already sent.
+     */
+    public Mono<Boolean> cancel(Long id) {
+        return Mono.defer(() -> {
+            Timeout timeout = armed.remove(id);
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            return scheduledRepository.release(id).map(deleted -> deleted > 0);
+        });
+    }
+
+    private Mono<Void> loadNextSlice() {
+        LocalDateTime from = armedUntil;
+        LocalDateTime until = LocalDateTime.now().plus(horizon);
+        armedUntil = until;
+        return scheduledRepository.findDueBetween(from, until)
+                .doOnNext(this::arm)
+                // Rows already armed are skipped by arm(), so the slice can simply be retried
+                .doOnError(error -> armedUntil = from)
+                .then();
+    }
+
+    private void arm(ScheduledNotification notification) {
+        arm(notification, Duration.between(LocalDateTime.now(), notification.getDueAt()));
+    }
+
+    private void arm(ScheduledNotification notification, Duration delay) {
+        HashedWheelTimer timer = wheel;
+        if (timer == null) {
+            return;
+        }
+        long delayMillis = Math.max(0, delay.toMillis());
+        armed.computeIfAbsent(notification.getId(),
+                id -> timer.newTimeout(timeout -> fire(notification), delayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    // Runs on the wheel's thread: only subscribes, the work itself is non-blocking
+    private void fire(ScheduledNotification notification) {
+        armed.remove(notification.getId());
+        LocalDateTime now = LocalDateTime.now();
+        Duration late = Duration.between(notification.getDueAt(), now);
+        lag.record(late.isNegative() ? Duration.ZERO : late);
+        scheduledRepository.release(notification.getId())
+                .filter(deleted -> deleted > 0)
+                .flatMap(deleted -> outboxRepository.save(
+                        new OutboxMessage(notification.getType(), notification.getRecipient(), now)))
+                .as(transactionalOperator::transactional)
+                .subscribe(queued -> { }, error -> {
+                    System.err.println("Queueing scheduled notification " + notification.getId()
+                            + " failed: " + error.getMessage());
+                    // The row is still there but already behind the loader, so retry from the wheel
+                    arm(notification, retryDelay);
+                });
+    }
+
+    int armedCount() {
+        return armed.size();
+    }
+}
\ No newline at end of file
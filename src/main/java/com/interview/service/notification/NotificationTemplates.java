@@ -0,0 +1,115 @@
+package com.interview.service.notification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Notification templates, compiled once and cached per template and locale.
+ *
+ * Templates live in {@code classpath:notification-templates/}, named after the
+ * notification type in lower case with dashes ({@code ROLE_CHANGED} ->
+ * {@code role-changed.txt}). Locale variants add a suffix and fall back from most
+ * to least specific: {@code welcome_de_AT.txt}, {@code welcome_de.txt}, {@code welcome.txt}.
+ *
+ * The cache holds at most {@code MAX_CACHED} entries so arbitrary locales cannot
+ * grow it without bound; lookups beyond that still work, they just compile again.
+ */
+@Component
+public class NotificationTemplates {
+
+    private static final String LOCATION = "notification-templates/";
+    private static final int MAX_CACHED = 1_000;
+
+    private final Locale defaultLocale;
+    private final ConcurrentMap<Key, CompiledTemplate> cache = new ConcurrentHashMap<>();
+
+    public NotificationTemplates(@Value("${app.notifications.default-locale:en}") Locale defaultLocale) {
+        this.defaultLocale = defaultLocale;
+    }
+
+    /**
+     * Returns the compiled template for {@code type}, throwing
+     * {@link IllegalArgumentException} if no variant exists.
+     */
+    public CompiledTemplate get(String type, Locale locale) {
+        Key key = new Key(type, locale != null ? locale : defaultLocale);
+        CompiledTemplate cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompiledTemplate compiled = load(key);
+        if (cache.size() < MAX_CACHED) {
+            cache.putIfAbsent(key, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Whether a template exists for {@code type} in the default locale, which every
+     * other locale falls back to.
+     */
+    public boolean exists(String type) {
+        try {
+            get(type, null);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Renders the body of {@code notification} into {@code out}.
+     */
+    public void renderTo(StringBuilder out, Notification notification) {
+        get(notification.type(), notification.locale()).renderTo(out, name -> switch (name) {
+            case "recipient" -> notification.recipient();
+            case "type" -> notification.type();
+            default -> null;
+        });
+    }
+
+    private static CompiledTemplate load(Key key) {
+        String baseName = LOCATION + key.type().toLowerCase(Locale.ROOT).replace('_', '-');
+        for (String candidate : candidates(baseName, key.locale())) {
+            ClassPathResource resource = new ClassPathResource(candidate);
+            if (resource.exists()) {
+                try (InputStream in = resource.getInputStream()) {
+                    return CompiledTemplate.compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read notification template " + candidate, e);
+                }
+            }
+        }
+        throw new IllegalArgumentException("No notification template for type " + key.type());
+    }
+
+    private static List<String> candidates(String baseName, Locale locale) {
+        String language = locale.getLanguage();
+        String country = locale.getCountry();
+        if (!country.isEmpty()) {
+            return List.of(baseName + "_" + language + "_" + country + ".txt", baseName + "_" + language + ".txt",
+                    baseName + ".txt");
+        }
+        if (!language.isEmpty()) {
+            return List.of(baseName + "_" + language + ".txt", baseName + ".txt");
+        }
+        return List.of(baseName + ".txt");
+    }
+
+    int cachedCount() {
+        return cache.size();
+    }
+
+    private record Key(String type, Locale locale) {
+    }
+}
\ No newline at end of file
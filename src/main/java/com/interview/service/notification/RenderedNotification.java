@@ -0,0 +1,11 @@
+package com.interview.service.notification;
+
+/**
+ * A notification together with its rendered body, as handed to a {@link NotificationProvider}.
+ */
+public record RenderedNotification(Notification notification, String body) {
+
+    public String recipient() {
+        return notification.recipient();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.interview.service.notification;
+
+/**
+ * Supplies the value of a template variable; null renders as nothing.
+ */
+@FunctionalInterface
+public interface TemplateValues {
+
+    CharSequence get(String name);
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.interview.service.notification;
+
+/**
+ * Raised by a {@link NotificationProvider} for failures worth retrying, such as
+ * throttling or a temporarily unavailable upstream.
+ */
+public class TransientDeliveryException extends RuntimeException {
+
+    public TransientDeliveryException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.interview.support;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Non-blocking rate limiter that spaces permits evenly.
+ *
+ * Each acquisition reserves the next free slot and waits on a timer until it is
+ * reached; no thread is parked. There is no burst allowance: after an idle period
+ * the next caller goes immediately, and callers after it are spaced again.
+ *
+ * A rate of zero or less disables limiting.
+ */
+public class RateLimiter {
+
+    private final long nanosPerPermit;
+    private final LongSupplier clock;
+    private final AtomicLong nextFree;
+
+    public RateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, System::nanoTime);
+    }
+
+    RateLimiter(double permitsPerSecond, LongSupplier clock) {
+        this.nanosPerPermit = permitsPerSecond > 0 ? (long) (1_000_000_000L / permitsPerSecond) : 0;
+        this.clock = clock;
+        this.nextFree = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Completes once {@code permits} may be used.
+     */
+    public Mono<Void> acquire(int permits) {
+        return Mono.defer(() -> {
+            long wait = reserve(permits);
+            return wait <= 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(wait)).then();
+        });
+    }
+
+    /**
+     * Reserves {@code permits} and returns how long the caller must wait, in nanoseconds.
+     */
+    long reserve(int permits) {
+        if (nanosPerPermit == 0) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        while (true) {
+            long next = nextFree.get();
+            long start = Math.max(next, now);
+            if (nextFree.compareAndSet(next, start + permits * nanosPerPermit)) {
+                return start - now;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.interview.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Reactor context markers that decide whether a database operation may be
+ * served by a read replica.
+ *
+ * - {@link #readOnly(Mono)} / {@link #readOnly(Flux)} mark an operation as a read
+ * - {@link #trackingWrites()} is written once per request; after the request
+ *   touches the primary, its later reads stay on the primary (read-your-writes)
+ *
+ * Unmarked operations always go to the primary.
+ */
+public final class ReadWriteRouting {
+
+    private static final String READ_ONLY_KEY = ReadWriteRouting.class.getName() + ".READ_ONLY";
+    private static final String WROTE_KEY = ReadWriteRouting.class.getName() + ".WROTE";
+
+    private ReadWriteRouting() {}
+
+    public static <T> Mono<T> readOnly(Mono<T> mono) {
+        return mono.contextWrite(markReadOnly(true));
+    }
+
+    public static <T> Flux<T> readOnly(Flux<T> flux) {
+        return flux.contextWrite(markReadOnly(true));
+    }
+
+    public static Function<Context, Context> markReadOnly(boolean readOnly) {
+        return context -> context.put(READ_ONLY_KEY, readOnly);
+    }
+
+    /**
+     * Starts read-your-writes tracking for everything subscribed beneath it.
+     */
+    public static Function<Context, Context> trackingWrites() {
+        return context -> context.hasKey(WROTE_KEY) ? context : context.put(WROTE_KEY, new AtomicBoolean());
+    }
+
+    /**
+     * Whether the current operation may use a replica.
+     */
+    public static boolean isReplicaEligible(ContextView context) {
+        return context.getOrDefault(READ_ONLY_KEY, false)
+                && !context.<AtomicBoolean>getOrEmpty(WROTE_KEY).map(AtomicBoolean::get).orElse(false);
+    }
+
+    /**
+     * Records that the current request used the primary.
+     */
+    public static void recordPrimaryUse(ContextView context) {
+        context.<AtomicBoolean>getOrEmpty(WROTE_KEY).ifPresent(wrote -> wrote.set(true));
+    }
+}
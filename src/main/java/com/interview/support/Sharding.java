@@ -0,0 +1,41 @@
+package com.interview.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * Reactor context marker selecting the database shard an operation runs on.
+ *
+ * Shard 0 is the primary database and the default for unmarked operations;
+ * it also holds everything that is not sharded (roles, catalog versions,
+ * the user shard directory).
+ */
+public final class Sharding {
+
+    private static final String SHARD_KEY = Sharding.class.getName() + ".SHARD";
+
+    public static final int DEFAULT_SHARD = 0;
+
+    private Sharding() {}
+
+    public static <T> Mono<T> onShard(int shard, Mono<T> mono) {
+        return mono.contextWrite(context -> context.put(SHARD_KEY, shard));
+    }
+
+    public static <T> Flux<T> onShard(int shard, Flux<T> flux) {
+        return flux.contextWrite(context -> context.put(SHARD_KEY, shard));
+    }
+
+    public static int currentShard(ContextView context) {
+        return context.getOrDefault(SHARD_KEY, DEFAULT_SHARD);
+    }
+
+    /**
+     * Home shard of a user id. Ids are spread with a multiplicative hash so
+     * that sequential ids do not cluster on one shard.
+     */
+    public static int shardOf(long userId, int shardCount) {
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), shardCount);
+    }
+}
@@ -0,0 +1,82 @@
+package com.interview.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent lookups for the same key.
+ *
+ * The first caller for a key starts the load. Callers that arrive while it is
+ * still running share the same subscription and receive the same value or error.
+ * Nothing is cached: once the load terminates the key is released and the next
+ * caller starts a fresh load.
+ *
+ * Cancellation:
+ * - a single caller cancelling only detaches that caller
+ * - the load itself is cancelled once every caller has cancelled
+ *
+ * The Reactor context of the caller that started the load is the one the load
+ * runs with. Services register against {@code Metrics.globalRegistry}, which
+ * Spring Boot links to the application registry.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.coalesced = Counter.builder("singleflight.coalesced")
+                .description("Lookups that joined an in-flight load instead of starting their own")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the in-flight load for {@code key}, starting one with {@code loader}
+     * if none is running.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            Flight flight = new Flight();
+            Mono<V> shared = inFlight.computeIfAbsent(key, k -> flight.start(k, loader));
+            if (shared != flight.mono) {
+                coalesced.increment();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * Number of keys with a load currently running.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public double coalescedCount() {
+        return coalesced.count();
+    }
+
+    private class Flight {
+
+        private Mono<V> mono;
+
+        private Mono<V> start(K key, Supplier<Mono<V>> loader) {
+            // fromDirect rather than next(): next() would cancel the load after its value
+            mono = Mono.fromDirect(Mono.defer(loader)
+                    // Release on success, error or when the last caller cancels
+                    .doFinally(signal -> inFlight.remove(key, mono))
+                    .flux()
+                    // replay(1), not publish(): a caller that picked this flight up just
+                    // before it was released still gets its value instead of an empty result
+                    .replay(1)
+                    .refCount());
+            return mono;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.interview.warmup;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Snapshot of the methods the JIT has compiled, as listed by the
+ * {@code Compiler.codelist} diagnostic command ({@code jcmd <pid> Compiler.codelist}).
+ *
+ * Each line is {@code <compile id> <tier> <state> <method> [<addresses>]}. Only code
+ * that is in use counts, and a method counts once at the highest tier it reached:
+ * 1-3 are C1 (tier 3 with profiling, so still on its way up), 4 is C2.
+ */
+final class CompiledCode {
+
+    static final int C2 = 4;
+
+    private static final String IN_USE = "0";
+
+    private final Map<String, Integer> tiers;
+
+    private CompiledCode(Map<String, Integer> tiers) {
+        this.tiers = tiers;
+    }
+
+    /**
+     * Empty when the JVM has no diagnostic command MBean, e.g. in a native image.
+     */
+    static Optional<CompiledCode> capture() {
+        try {
+            String codelist = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"), "compilerCodelist",
+                    new Object[] {null}, new String[] {String[].class.getName()});
+            return Optional.of(parse(codelist));
+        } catch (JMException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    static CompiledCode parse(String codelist) {
+        Map<String, Integer> tiers = new HashMap<>();
+        for (String line : codelist.split("\n")) {
+            String[] fields = line.trim().split(" ", 5);
+            if (fields.length < 4 || !IN_USE.equals(fields[2])) {
+                continue;
+            }
+            int tier;
+            try {
+                tier = Integer.parseInt(fields[1]);
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            // Tier 0 entries are native wrappers, not compiled bytecode
+            if (tier > 0) {
+                tiers.merge(fields[3], tier, Math::max);
+            }
+        }
+        return new CompiledCode(tiers);
+    }
+
+    /**
+     * Methods under {@code prefix} (a package or class name) compiled at any tier.
+     */
+    long compiled(String prefix) {
+        return tiers.keySet().stream().filter(method -> method.startsWith(prefix)).count();
+    }
+
+    /**
+     * Methods under {@code prefix} compiled by C2.
+     */
+    long optimized(String prefix) {
+        return tiers.entrySet().stream()
+                .filter(entry -> entry.getValue() == C2 && entry.getKey().startsWith(prefix))
+                .count();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+package com.interview.warmup;
+
+import com.interview.security.jwt.JwtUtil;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * JIT warm-up before the instance reports ready ({@code app.warmup.enabled}).
+ *
+ * Sends rounds of synthetic, read-only requests through the local server, so JWT
+ * signing and verification, the security filter chain, JSON encoding and decoding,
+ * the annotated controllers, the functional routes and the repository queries get
+ * compiled before real traffic arrives. Every request carries a freshly signed token.
+ *
+ * Rounds continue until one adds fewer than {@code settle-threshold} C2-compiled
+ * methods in the watched packages, or until {@code budget} runs out. Spring Boot
+ * only publishes {@code ReadinessState.ACCEPTING_TRAFFIC} once application runners
+ * are done, so {@code /actuator/health/readiness} stays OUT_OF_SERVICE meanwhile.
+ *
+ * Enabled is checked at run time rather than through a condition, so an AOT build
+ * ({@code -Pfast-startup}) can still turn it on. Failed requests are counted and
+ * reported but never fail startup.
+ */
+@Component
+public class JitWarmup implements ApplicationRunner {
+
+    // Not a real account; the token is only ever sent to this instance
+    private static final String SUBJECT = "jit-warmup@localhost";
+    private static final String BATCH_IDS = "{\"ids\":[1,2,3,4,5,6]}";
+
+    private final ApplicationContext context;
+    private final JwtUtil jwtUtil;
+
+    @Value("${app.warmup.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${app.warmup.budget:20s}")
+    private Duration budget = Duration.ofSeconds(20);
+
+    @Value("${app.warmup.round-requests:400}")
+    private int roundRequests = 400;
+
+    @Value("${app.warmup.concurrency:8}")
+    private int concurrency = 8;
+
+    @Value("${app.warmup.settle-threshold:3}")
+    private int settleThreshold = 3;
+
+    @Value("${app.warmup.packages:com.interview,io.jsonwebtoken,com.fasterxml.jackson,org.springframework.web,org.springframework.security,reactor.netty}")
+    private List<String> packages = List.of("com.interview");
+
+    private volatile WarmupReport report;
+
+    public JitWarmup(ApplicationContext context, JwtUtil jwtUtil) {
+        this.context = context;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || !(context instanceof WebServerApplicationContext webContext)) {
+            return;
+        }
+        int port = webContext.getWebServer().getPort();
+        ConnectionProvider connections = ConnectionProvider.create("jit-warmup", concurrency);
+        try {
+            HttpClient client = HttpClient.create(connections)
+                    .baseUrl("http://localhost:" + port)
+                    .responseTimeout(Duration.ofSeconds(5));
+            report = warmUp(client);
+            report.print();
+        } catch (RuntimeException e) {
+            System.err.println("JIT warm-up aborted: " + e);
+        } finally {
+            connections.dispose();
+        }
+    }
+
+    WarmupReport report() {
+        return report;
+    }
+
+    private WarmupReport warmUp(HttpClient client) {
+        List<Call> calls = calls();
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        long compileMillisBefore = compilationMillis();
+        long optimized = CompiledCode.capture().map(this::optimized).orElse(0L);
+        List<Long> roundMedians = new ArrayList<>();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        boolean settled = false;
+
+        while (System.nanoTime() < deadline) {
+            Duration remaining = Duration.ofNanos(deadline - System.nanoTime());
+            List<Long> latencies = Flux.range(0, roundRequests)
+                    .flatMap(n -> send(client, calls.get(n % calls.size()), errors), concurrency)
+                    .take(remaining)
+                    .collectSortedList()
+                    .block();
+            requests.addAndGet(latencies.size());
+            if (!latencies.isEmpty()) {
+                roundMedians.add(latencies.get(latencies.size() / 2));
+            }
+            Optional<CompiledCode> compiled = CompiledCode.capture();
+            if (compiled.isPresent()) {
+                long now = optimized(compiled.get());
+                if (roundMedians.size() >= 2 && now - optimized < settleThreshold) {
+                    settled = true;
+                    break;
+                }
+                optimized = now;
+            }
+        }
+
+        return new WarmupReport(roundMedians, requests.get(), errors.get(), settled,
+                Duration.ofNanos(System.nanoTime() - start), compilationMillis() - compileMillisBefore,
+                CompiledCode.capture().orElse(null), packages);
+    }
+
+    // Mirrors the read paths of real traffic; nothing here writes
+    private List<Call> calls() {
+        List<Call> calls = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            calls.add(new Call(HttpMethod.GET, "/api/users/" + id, false, null));
+            calls.add(new Call(HttpMethod.GET, "/api/functional/users/" + id, false, null));
+        }
+        calls.add(new Call(HttpMethod.GET, "/api/users/0", false, null));
+        calls.add(new Call(HttpMethod.GET, "/api/users/search?name=o", false, null));
+        calls.add(new Call(HttpMethod.GET, "/api/users/department/Engineering", false, null));
+        calls.add(new Call(HttpMethod.GET, "/api/users/department/Engineering/count", false, null));
+        calls.add(new Call(HttpMethod.POST, "/api/users/batch-get", false, BATCH_IDS));
+        calls.add(new Call(HttpMethod.GET, "/api/admin/roles", true, null));
+        calls.add(new Call(HttpMethod.GET, "/api/admin/users-with-roles?size=20", true, null));
+        return calls;
+    }
+
+    // Latency in nanoseconds; server errors and failed requests are counted
+    private Mono<Long> send(HttpClient client, Call call, AtomicLong errors) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            String token = jwtUtil.generateToken(SUBJECT, call.admin() ? List.of("ADMIN", "USER") : List.of("USER"));
+            return client.headers(headers -> {
+                        headers.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + token);
+                        if (call.body() != null) {
+                            headers.set(HttpHeaderNames.CONTENT_TYPE, "application/json");
+                        }
+                    })
+                    .request(call.method())
+                    .uri(call.uri())
+                    .send(call.body() != null ? ByteBufFlux.fromString(Mono.just(call.body())) : Mono.empty())
+                    .responseSingle((response, content) -> content.asString()
+                            .defaultIfEmpty("")
+                            .thenReturn(response.status().code()))
+                    .onErrorReturn(-1)
+                    .map(status -> {
+                        if (status < 0 || status >= 500) {
+                            errors.incrementAndGet();
+                        }
+                        return System.nanoTime() - start;
+                    });
+        });
+    }
+
+    private long optimized(CompiledCode compiled) {
+        return packages.stream().mapToLong(compiled::optimized).sum();
+    }
+
+    private static long compilationMillis() {
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        return compilation != null && compilation.isCompilationTimeMonitoringSupported()
+                ? compilation.getTotalCompilationTime() : 0;
+    }
+
+    private record Call(HttpMethod method, String uri, boolean admin, String body) {
+    }
+
+    /**
+     * What a warm-up did: per-round median latency, how it ended, and how much of
+     * the watched packages' compiled code had reached C2.
+     */
+    record WarmupReport(List<Long> roundMedians, long requests, long errors, boolean settled, Duration elapsed,
+                        long compileMillis, CompiledCode compiled, List<String> packages) {
+
+        void print() {
+            System.out.printf("JIT warm-up: %d rounds, %d requests (%d errors) in %d ms, %s; "
+                            + "median latency %.2f ms in the first round, %.2f ms in the last; %d ms spent compiling%n",
+                    roundMedians.size(), requests, errors, elapsed.toMillis(),
+                    settled ? "compilation settled" : "budget exhausted",
+                    millis(0), millis(roundMedians.size() - 1), compileMillis);
+            if (compiled == null) {
+                System.out.println("JIT warm-up: compiled-code coverage unavailable on this JVM");
+                return;
+            }
+            System.out.println("JIT warm-up: C2-compiled / compiled methods: " + packages.stream()
+                    .map(prefix -> String.format("%s %d/%d (%.0f%%)", prefix, compiled.optimized(prefix),
+                            compiled.compiled(prefix), coverage(prefix)))
+                    .collect(Collectors.joining(", ")));
+        }
+
+        /**
+         * Share of the compiled methods under {@code prefix} that C2 has compiled.
+         */
+        double coverage(String prefix) {
+            long all = compiled != null ? compiled.compiled(prefix) : 0;
+            return all == 0 ? 0 : 100.0 * compiled.optimized(prefix) / all;
+        }
+
+        private double millis(int round) {
+            return roundMedians.isEmpty() ? 0 : roundMedians.get(round) / 1_000_000.0;
+        }
+    }
+}
\ No newline at end of file
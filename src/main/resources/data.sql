@@ -1,3 +1,6 @@
+-- Insert catalog versions
+INSERT INTO catalog_versions (name, version) VALUES ('roles', 0);
+
 -- Insert roles
 INSERT INTO roles (name, description) VALUES 
 ('ADMIN', 'Administrator with full access'),
@@ -0,0 +1,13 @@
+-- Sharding metadata, created on shard 0 when app.sharding.shard-urls is set.
+DROP TABLE IF EXISTS user_shard_directory;
+DROP SEQUENCE IF EXISTS user_id_seq;
+
+-- Email -> owning user and its shard; the primary key keeps emails unique across shards
+CREATE TABLE user_shard_directory (
+    email VARCHAR(100) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    shard INT NOT NULL
+);
+
+-- Global user ids; the user's shard is derived from the id
+CREATE SEQUENCE user_id_seq;
@@ -0,0 +1,42 @@
+-- Schema for the extra user shards (app.sharding.shard-urls).
+-- Shard 0 keeps the full schema from schema.sql.
+DROP TABLE IF EXISTS notification_outbox;
+DROP TABLE IF EXISTS user_roles;
+DROP TABLE IF EXISTS users;
+
+-- Same definition as on shard 0; ids are assigned from user_id_seq on shard 0
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    department VARCHAR(50),
+    enabled BOOLEAN DEFAULT TRUE,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Colocated with the user; role_id refers to the role catalog on shard 0,
+-- so it has no foreign key here
+CREATE TABLE user_roles (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    UNIQUE(user_id, role_id)
+);
+
+-- Outbox written in the same transaction as the users on this shard
+CREATE TABLE notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    available_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    claim_token VARCHAR(36),
+    claimed_until TIMESTAMP,
+    last_error VARCHAR(500),
+    failed_at TIMESTAMP
+);
+
+CREATE INDEX idx_notification_outbox_available ON notification_outbox (available_at, id);
@@ -1,4 +1,7 @@
 -- Drop tables in correct order (child tables first)
+DROP TABLE IF EXISTS scheduled_notification;
+DROP TABLE IF EXISTS notification_outbox;
+DROP TABLE IF EXISTS catalog_versions;
 DROP TABLE IF EXISTS user_roles;
 DROP TABLE IF EXISTS roles;
 DROP TABLE IF EXISTS users;
@@ -10,7 +13,8 @@ CREATE TABLE users (
     email VARCHAR(100) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
     department VARCHAR(50),
-    enabled BOOLEAN DEFAULT TRUE
+    enabled BOOLEAN DEFAULT TRUE,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- Create roles table
@@ -28,4 +32,39 @@ CREATE TABLE user_roles (
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (role_id) REFERENCES roles(id) ON DELETE CASCADE,
     UNIQUE(user_id, role_id)
-);
\ No newline at end of file
+);
+
+-- Catalog-wide versions backing ETags for rarely changing lists (e.g. roles)
+CREATE TABLE catalog_versions (
+    name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Notifications queued in the same transaction as the change that triggers them
+-- and delivered by OutboxDispatcher; rows are deleted once sent
+CREATE TABLE notification_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    available_at TIMESTAMP NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    claim_token VARCHAR(36),
+    claimed_until TIMESTAMP,
+    last_error VARCHAR(500),
+    failed_at TIMESTAMP
+);
+
+CREATE INDEX idx_notification_outbox_available ON notification_outbox (available_at, id);
+
+-- Notifications to send at a later time; armed in NotificationScheduler's timer
+-- wheel when they come within its horizon and moved to the outbox when due
+CREATE TABLE scheduled_notification (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    recipient VARCHAR(100) NOT NULL,
+    due_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_scheduled_notification_due ON scheduled_notification (due_at, id);
\ No newline at end of file
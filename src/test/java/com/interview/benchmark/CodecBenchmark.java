@@ -0,0 +1,73 @@
+package com.interview.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.interview.model.UserSummary;
+import com.interview.security.model.Role;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares payload size and serialization time of the JSON, CBOR and Smile codecs
+ * for the user and role list payloads.
+ *
+ * Not part of the test suite; run it from the IDE or with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.interview.benchmark.CodecBenchmark}
+ */
+public class CodecBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", Jackson2ObjectMapperBuilder.json().build());
+        mappers.put("cbor", new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build());
+        mappers.put("smile", new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build());
+
+        List<UserSummary> users = new ArrayList<>(ROWS);
+        List<Role> roles = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            users.add(new UserSummary((long) i, "User " + i, "user" + i + "@company.com", "Department " + (i % 8), i % 10 != 0, 0L));
+            Role role = new Role("ROLE_" + i, "Generated role number " + i);
+            role.setId((long) i);
+            roles.add(role);
+        }
+
+        System.out.printf("%-6s %-6s %10s %14s %14s%n", "format", "type", "bytes", "encode us/op", "decode us/op");
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            run(entry.getKey(), "users", entry.getValue(), users, new TypeReference<List<UserSummary>>() {});
+            run(entry.getKey(), "roles", entry.getValue(), roles, new TypeReference<List<Role>>() {});
+        }
+    }
+
+    private static <T> void run(String format, String type, ObjectMapper mapper, List<T> payload,
+                                TypeReference<List<T>> typeReference) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(payload);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(payload), typeReference);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            bytes = mapper.writeValueAsBytes(payload);
+        }
+        long encodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(bytes, typeReference);
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        System.out.printf("%-6s %-6s %10d %14.1f %14.1f%n", format, type, bytes.length,
+                encodeNanos / 1_000.0 / MEASURED_ITERATIONS, decodeNanos / 1_000.0 / MEASURED_ITERATIONS);
+    }
+}
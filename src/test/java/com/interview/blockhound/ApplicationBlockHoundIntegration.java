@@ -0,0 +1,25 @@
+package com.interview.blockhound;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+/**
+ * Allow-list of blocking calls accepted on non-blocking threads.
+ *
+ * blockhound-junit-platform installs BlockHound for every test run and picks this
+ * class up through {@code META-INF/services}. Anything blocking on a Netty event
+ * loop or a Reactor parallel thread that is not listed here fails the test that
+ * triggered it. Test logging goes through an async appender (logback-test.xml), so
+ * it needs no entry.
+ *
+ * Keep entries narrow (class and method) and say why each one is acceptable.
+ */
+public class ApplicationBlockHoundIntegration implements BlockHoundIntegration {
+
+    @Override
+    public void applyTo(BlockHound.Builder builder) {
+        builder
+                // Templates are read from the classpath once per type and locale, then cached
+                .allowBlockingCallsInside("com.interview.service.notification.NotificationTemplates", "load");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.interview.blockhound;
+
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+class BlockHoundInstalledTest {
+
+    @Test
+    void blockingCallOnNonBlockingThread_ShouldFail() {
+        // Given - Thread.sleep on a Reactor parallel thread
+        Mono<Object> blocking = Mono.delay(Duration.ofMillis(1))
+                .publishOn(Schedulers.parallel())
+                .map(tick -> {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return tick;
+                });
+
+        // When & Then
+        StepVerifier.create(blocking)
+                .expectErrorMatches(error -> error instanceof BlockingOperationError)
+                .verify();
+    }
+
+    @Test
+    void blockingCallOnBoundedElastic_ShouldBeAllowed() {
+        // Given
+        Mono<String> offloaded = Mono.fromCallable(() -> {
+                    Thread.sleep(10);
+                    return "done";
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+
+        // When & Then
+        StepVerifier.create(offloaded)
+                .expectNext("done")
+                .verifyComplete();
+    }
+}
\ No newline at end of file
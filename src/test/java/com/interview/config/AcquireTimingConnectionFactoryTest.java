@@ -0,0 +1,90 @@
+package com.interview.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AcquireTimingConnectionFactoryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AcquireTimingConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // One connection and one waiter, so contention is easy to provoke
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get("r2dbc:h2:mem:///acquire-timing"))
+                .initialSize(1)
+                .maxSize(1)
+                .maxAcquireTime(Duration.ofMillis(200))
+                .customizer(poolBuilder -> poolBuilder.maxPendingAcquire(1))
+                .build());
+        connectionFactory = new AcquireTimingConnectionFactory(pool, "test", meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.dispose();
+    }
+
+    @Test
+    void create_ShouldRecordSuccessfulAcquire() {
+        StepVerifier.create(Mono.usingWhen(connectionFactory.create(), Mono::just, Connection::close))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, count("success"));
+    }
+
+    @Test
+    void create_ShouldRecordTimeout_WhenPoolIsExhausted() {
+        Connection held = connectionFactory.create().block();
+
+        StepVerifier.create(connectionFactory.create())
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(1, count("timeout"));
+        Mono.from(held.close()).block();
+    }
+
+    @Test
+    void create_ShouldRecordRejection_WhenAcquireQueueIsFull() {
+        Connection held = connectionFactory.create().block();
+        // Occupies the single pending slot until max-acquire-time elapses
+        connectionFactory.create().subscribe(connection -> {}, failure -> {});
+
+        StepVerifier.create(connectionFactory.create())
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+
+        assertEquals(1, count("rejected"));
+        Mono.from(held.close()).block();
+    }
+
+    @Test
+    void unwrap_ShouldExposePoolForBootGauges() {
+        assertSame(ConnectionPool.class, connectionFactory.unwrap().getClass());
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("r2dbc.pool.acquire")
+                .tag("name", "test")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,100 @@
+package com.interview.config;
+
+import com.interview.model.UserSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CodecConfigTest {
+
+    private ServerCodecConfigurer configurer;
+
+    private final UserSummary john = new UserSummary(1L, "John Doe", "john@example.com", "Engineering", true, null);
+    private final UserSummary jane = new UserSummary(2L, "Jane Smith", "jane@example.com", "Marketing", false, null);
+
+    @BeforeEach
+    void setUp() {
+        configurer = ServerCodecConfigurer.create();
+        new CodecConfig(new DefaultListableBeanFactory().getBeanProvider(Jackson2ObjectMapperBuilder.class))
+                .configureHttpMessageCodecs(configurer);
+    }
+
+    @Test
+    void fluxBody_ShouldRoundTripThroughCborAndSmile() {
+        for (MediaType mediaType : List.of(MediaType.APPLICATION_CBOR, CodecConfig.APPLICATION_SMILE)) {
+            MockServerHttpResponse response = write(Flux.just(john, jane), mediaType);
+            MockServerHttpRequest request = MockServerHttpRequest.post("/")
+                    .contentType(mediaType)
+                    .body(response.getBody());
+
+            ResolvableType listType = ResolvableType.forType(new ParameterizedTypeReference<List<UserSummary>>() {});
+            StepVerifier.create(reader(listType, mediaType).readMono(listType, request, Collections.emptyMap()))
+                    .expectNext(List.of(john, jane))
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    void monoBody_ShouldRoundTripThroughCbor() {
+        MockServerHttpResponse response = write(Mono.just(john), MediaType.APPLICATION_CBOR);
+        MockServerHttpRequest request = MockServerHttpRequest.post("/")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .body(response.getBody());
+
+        ResolvableType type = ResolvableType.forClass(UserSummary.class);
+        StepVerifier.create(reader(type, MediaType.APPLICATION_CBOR).readMono(type, request, Collections.emptyMap()))
+                .expectNext(john)
+                .verifyComplete();
+    }
+
+    @Test
+    void negotiate_ShouldDefaultToJson() {
+        assertEquals(MediaType.APPLICATION_JSON, CodecConfig.negotiate(List.of()));
+        assertEquals(MediaType.APPLICATION_JSON, CodecConfig.negotiate(List.of(MediaType.ALL)));
+        assertEquals(MediaType.APPLICATION_JSON, CodecConfig.negotiate(List.of(MediaType.TEXT_HTML)));
+        assertEquals(MediaType.APPLICATION_CBOR, CodecConfig.negotiate(List.of(MediaType.APPLICATION_CBOR)));
+        assertEquals(CodecConfig.APPLICATION_SMILE,
+                CodecConfig.negotiate(MediaType.parseMediaTypes("application/x-jackson-smile, */*;q=0.5")));
+        assertEquals(MediaType.APPLICATION_JSON, CodecConfig.negotiate(MediaType.parseMediaTypes("application/*")));
+        assertEquals(MediaType.APPLICATION_JSON,
+                CodecConfig.negotiate(MediaType.parseMediaTypes("application/cbor;q=0.5, */*")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private MockServerHttpResponse write(Publisher<UserSummary> body, MediaType mediaType) {
+        ResolvableType type = ResolvableType.forClass(UserSummary.class);
+        HttpMessageWriter<UserSummary> writer = (HttpMessageWriter<UserSummary>) configurer.getWriters().stream()
+                .filter(candidate -> candidate.canWrite(type, mediaType))
+                .findFirst()
+                .orElseThrow();
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        writer.write(body, type, mediaType, response, Collections.emptyMap()).block();
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> HttpMessageReader<T> reader(ResolvableType type, MediaType mediaType) {
+        return (HttpMessageReader<T>) configurer.getReaders().stream()
+                .filter(candidate -> candidate.canRead(type, mediaType))
+                .findFirst()
+                .orElseThrow();
+    }
+}
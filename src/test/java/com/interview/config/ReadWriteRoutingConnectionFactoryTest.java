@@ -0,0 +1,131 @@
+package com.interview.config;
+
+import com.interview.support.ReadWriteRouting;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+class ReadWriteRoutingConnectionFactoryTest {
+
+    private AcquireTimingConnectionFactory primary;
+    private AcquireTimingConnectionFactory replica;
+    private ReadWriteRoutingConnectionFactory routing;
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        // Two independent H2 databases; each knows which one it is
+        primary = database("routing-primary");
+        replica = database("routing-replica");
+        routing = new ReadWriteRoutingConnectionFactory(primary, List.of(replica));
+        routing.afterPropertiesSet();
+        databaseClient = DatabaseClient.create(routing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.destroy();
+        primary.dispose();
+    }
+
+    @Test
+    void unmarkedOperations_ShouldUsePrimary() {
+        StepVerifier.create(whichDatabase())
+                .expectNext("routing-primary")
+                .verifyComplete();
+    }
+
+    @Test
+    void readOnlyOperations_ShouldUseReplica() {
+        StepVerifier.create(ReadWriteRouting.readOnly(whichDatabase()))
+                .expectNext("routing-replica")
+                .verifyComplete();
+    }
+
+    @Test
+    void readsAfterPrimaryUse_ShouldStayOnPrimary_WithinTrackedRequest() {
+        Mono<String> request = whichDatabase()
+                .then(ReadWriteRouting.readOnly(whichDatabase()))
+                .contextWrite(ReadWriteRouting.trackingWrites());
+
+        StepVerifier.create(request)
+                .expectNext("routing-primary")
+                .verifyComplete();
+    }
+
+    @Test
+    void readsBeforePrimaryUse_ShouldUseReplica_WithinTrackedRequest() {
+        Mono<String> request = ReadWriteRouting.readOnly(whichDatabase())
+                .contextWrite(ReadWriteRouting.trackingWrites());
+
+        StepVerifier.create(request)
+                .expectNext("routing-replica")
+                .verifyComplete();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldUseReplica() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        TransactionalOperator readOnly = TransactionalOperator.create(
+                new RoutingR2dbcTransactionManager(routing), definition);
+
+        StepVerifier.create(readOnly.transactional(whichDatabase()))
+                .expectNext("routing-replica")
+                .verifyComplete();
+    }
+
+    @Test
+    void readWriteTransactions_ShouldUsePrimary_EvenInsideReadOnlyMarker() {
+        TransactionalOperator readWrite = TransactionalOperator.create(new RoutingR2dbcTransactionManager(routing));
+
+        StepVerifier.create(ReadWriteRouting.readOnly(readWrite.transactional(whichDatabase())))
+                .expectNext("routing-primary")
+                .verifyComplete();
+    }
+
+    @Test
+    void withoutReplicas_ReadOnlyOperations_ShouldUsePrimary() {
+        ReadWriteRoutingConnectionFactory primaryOnly = new ReadWriteRoutingConnectionFactory(primary, List.of());
+        primaryOnly.afterPropertiesSet();
+
+        StepVerifier.create(ReadWriteRouting.readOnly(whichDatabase(DatabaseClient.create(primaryOnly))))
+                .expectNext("routing-primary")
+                .verifyComplete();
+    }
+
+    private Mono<String> whichDatabase() {
+        return whichDatabase(databaseClient);
+    }
+
+    private static Mono<String> whichDatabase(DatabaseClient client) {
+        return client.sql("SELECT name FROM instance")
+                .map(row -> row.get("name", String.class))
+                .one();
+    }
+
+    private static AcquireTimingConnectionFactory database(String name) {
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get("r2dbc:h2:mem:///" + name + "?options=DB_CLOSE_DELAY=-1"))
+                .maxSize(2)
+                .build());
+        DatabaseClient.create(pool)
+                .sql("CREATE TABLE IF NOT EXISTS instance (name VARCHAR(50))")
+                .then()
+                .then(DatabaseClient.create(pool).sql("DELETE FROM instance").then())
+                .then(DatabaseClient.create(pool).sql("INSERT INTO instance VALUES ('" + name + "')").then())
+                .block();
+        return new AcquireTimingConnectionFactory(pool, name, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,130 @@
+package com.interview.controller;
+
+import com.interview.model.UserSummary;
+import com.interview.security.model.Role;
+import com.interview.security.service.RoleService;
+import com.interview.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RoleService roleService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        // Bound directly to the controllers: ETag handling is independent of security
+        webTestClient = WebTestClient
+                .bindToController(new UserController(userService), new AdminController(roleService))
+                .build();
+    }
+
+    @Test
+    void getUserById_ShouldReturnETag() {
+        when(userService.getUserVersion(1L)).thenReturn(Mono.just(3L));
+        when(userService.getUserById(1L))
+                .thenReturn(Mono.just(new UserSummary(1L, "John Doe", "john@example.com", "Engineering", true, 3L)));
+
+        webTestClient.get()
+                .uri("/api/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"user-1-v3\"")
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("John Doe")
+                .jsonPath("$.version").doesNotExist();
+    }
+
+    @Test
+    void getUserById_ShouldTagTheReturnedRow_WhenItChangedAfterTheVersionCheck() {
+        // Given - updated between the version query and the row read
+        when(userService.getUserVersion(1L)).thenReturn(Mono.just(3L));
+        when(userService.getUserById(1L))
+                .thenReturn(Mono.just(new UserSummary(1L, "John Smith", "john@example.com", "Engineering", true, 4L)));
+
+        // When & Then
+        webTestClient.get()
+                .uri("/api/users/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"user-1-v2\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"user-1-v4\"")
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("John Smith");
+    }
+
+    @Test
+    void getUserById_ShouldReturn304_WithoutLoadingRow_WhenETagMatches() {
+        when(userService.getUserVersion(1L)).thenReturn(Mono.just(3L));
+
+        webTestClient.get()
+                .uri("/api/users/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"user-1-v3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        verify(userService, never()).getUserById(anyLong());
+    }
+
+    @Test
+    void getAllRoles_ShouldReturn304_WhenCatalogVersionUnchanged() {
+        when(roleService.getCatalogVersion()).thenReturn(Mono.just(7L));
+
+        webTestClient.get()
+                .uri("/api/admin/roles")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"roles-v7\"")
+                .exchange()
+                .expectStatus().isNotModified();
+
+        verify(roleService, never()).getAllRoles();
+    }
+
+    @Test
+    void getAllRoles_ShouldReturnRoles_WhenCatalogVersionChanged() {
+        when(roleService.getCatalogVersion()).thenReturn(Mono.just(8L));
+        when(roleService.getAllRoles()).thenReturn(Flux.just(new Role("ADMIN", "Administrator")));
+
+        webTestClient.get()
+                .uri("/api/admin/roles")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"roles-v7\"")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"roles-v8\"")
+                .expectBody()
+                .jsonPath("$[0].name").isEqualTo("ADMIN");
+    }
+
+    @Test
+    void getUserRoles_ShouldReturn304_WithoutJoin_WhenAssignmentsUnchanged() {
+        when(roleService.getCatalogVersion()).thenReturn(Mono.just(2L));
+        when(roleService.getUserRoleIds(6L)).thenReturn(Flux.just(1L, 2L));
+
+        webTestClient.get()
+                .uri("/api/admin/users/6/roles")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"user-6-roles-v2-1.2\"")
+                .exchange()
+                .expectStatus().isNotModified();
+
+        verify(roleService, never()).getUserRoles(anyLong());
+    }
+}
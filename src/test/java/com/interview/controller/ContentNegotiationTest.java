@@ -0,0 +1,87 @@
+package com.interview.controller;
+
+import com.interview.config.CodecConfig;
+import com.interview.model.UserSummary;
+import com.interview.security.service.RoleService;
+import com.interview.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentNegotiationTest {
+
+    private static final String BROWSER_ACCEPT = "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private RoleService roleService;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        CodecConfig codecConfig = new CodecConfig(
+                new DefaultListableBeanFactory().getBeanProvider(Jackson2ObjectMapperBuilder.class));
+        webTestClient = WebTestClient
+                .bindToController(new UserController(userService), new AdminController(roleService))
+                .httpMessageCodecs(codecConfig::configureHttpMessageCodecs)
+                .contentTypeResolver(codecConfig::configureContentTypeResolver)
+                .build();
+        when(userService.getUserVersion(1L)).thenReturn(Mono.just(0L));
+        when(userService.getUserById(1L))
+                .thenReturn(Mono.just(new UserSummary(1L, "John Doe", "john@example.com", "Engineering", true, null)));
+    }
+
+    @Test
+    void browserAccept_ShouldGetJson() {
+        expectContentType(BROWSER_ACCEPT, MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void applicationWildcard_ShouldGetJson() {
+        expectContentType("application/*", MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void anyOrMissingAccept_ShouldGetJson() {
+        expectContentType("*/*", MediaType.APPLICATION_JSON);
+        webTestClient.get()
+                .uri("/api/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void explicitBinaryAccept_ShouldGetBinary() {
+        expectContentType("application/cbor", MediaType.APPLICATION_CBOR);
+        expectContentType("application/x-jackson-smile, */*;q=0.5", CodecConfig.APPLICATION_SMILE);
+    }
+
+    @Test
+    void wildcardPreferredOverBinary_ShouldGetJson() {
+        expectContentType("application/cbor;q=0.5, */*", MediaType.APPLICATION_JSON);
+    }
+
+    private void expectContentType(String accept, MediaType expected) {
+        webTestClient.get()
+                .uri("/api/users/1")
+                .header(HttpHeaders.ACCEPT, accept)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(expected);
+    }
+}
\ No newline at end of file
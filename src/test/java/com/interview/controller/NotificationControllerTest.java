@@ -0,0 +1,85 @@
+package com.interview.controller;
+
+import com.interview.model.ScheduledNotification;
+import com.interview.repository.OutboxRepository;
+import com.interview.repository.ScheduledNotificationRepository;
+import com.interview.service.notification.NotificationScheduler;
+import com.interview.service.notification.NotificationTemplates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationControllerTest {
+
+    @Mock
+    private ScheduledNotificationRepository scheduledRepository;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private ReactiveTransactionManager transactionManager;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        NotificationScheduler scheduler = new NotificationScheduler(scheduledRepository, outboxRepository,
+                new NotificationTemplates(Locale.ENGLISH), transactionManager);
+        webTestClient = WebTestClient.bindToController(new NotificationController(scheduler)).build();
+    }
+
+    @Test
+    void schedule_ShouldReturnCreated_WhenTypeHasTemplate() {
+        // Given
+        when(scheduledRepository.save(any(ScheduledNotification.class))).thenAnswer(invocation -> {
+            ScheduledNotification notification = invocation.getArgument(0);
+            notification.setId(1L);
+            return Mono.just(notification);
+        });
+
+        // When & Then
+        webTestClient.post()
+                .uri("/api/admin/notifications/scheduled")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body("PASSWORD_RESET"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.type").isEqualTo("PASSWORD_RESET");
+    }
+
+    @Test
+    void schedule_ShouldReturn400_WhenTypeIsUnknown() {
+        // When & Then
+        webTestClient.post()
+                .uri("/api/admin/notifications/scheduled")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body("REMINDER"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(scheduledRepository, never()).save(any(ScheduledNotification.class));
+    }
+
+    private static String body(String type) {
+        return "{\"type\":\"" + type + "\",\"recipient\":\"john@example.com\",\"dueAt\":\""
+                + LocalDateTime.now().plusHours(1).withNano(0) + "\"}";
+    }
+}
\ No newline at end of file
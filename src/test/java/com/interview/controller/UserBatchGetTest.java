@@ -0,0 +1,149 @@
+package com.interview.controller;
+
+import com.interview.model.UserSummary;
+import com.interview.repository.OutboxRepository;
+import com.interview.repository.UserRepository;
+import com.interview.repository.UserTransactions;
+import com.interview.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserBatchGetTest {
+
+    private static final Map<Long, UserSummary> USERS = Map.of(
+            1L, new UserSummary(1L, "John Doe", "john@example.com", "Engineering", true, 0L),
+            2L, new UserSummary(2L, "Jane Smith", "jane@example.com", "Marketing", true, 0L),
+            3L, new UserSummary(3L, "Bob Johnson", "bob@example.com", "Engineering", false, 0L));
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private UserTransactions userTransactions;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        // The database returns matches in id order, whatever order they were asked for in
+        lenient().when(userRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return Flux.fromStream(ids.stream()
+                    .map(USERS::get)
+                    .filter(user -> user != null)
+                    .sorted(Comparator.comparing(UserSummary::id)));
+        });
+        UserController controller = new UserController(new UserService(userRepository, outboxRepository,
+                userTransactions));
+        webTestClient = WebTestClient.bindToController(controller).build();
+        // Binding injects the @Value defaults, so the limits are lowered afterwards
+        ReflectionTestUtils.setField(controller, "maxBatchIds", 4);
+        ReflectionTestUtils.setField(controller, "maxStreamIds", 6);
+    }
+
+    @Test
+    void batchGet_ShouldReturnUsersInRequestOrder_AndReportMissingIds() {
+        webTestClient.post()
+                .uri("/api/users/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\":[3,99,1,2]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.users[*].id").value(values -> assertEquals(List.of(3, 1, 2), values))
+                .jsonPath("$.users[0].name").isEqualTo("Bob Johnson")
+                .jsonPath("$.missingIds").value(values -> assertEquals(List.of(99), values));
+    }
+
+    @Test
+    void batchGet_ShouldReturnEmptyUsers_WhenNoIdMatches() {
+        webTestClient.post()
+                .uri("/api/users/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\":[98,99]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.users").isEmpty()
+                .jsonPath("$.missingIds").value(values -> assertEquals(List.of(98, 99), values));
+    }
+
+    @Test
+    void batchGet_ShouldReturn400_WhenOverTheSizeLimit() {
+        webTestClient.post()
+                .uri("/api/users/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\":[1,2,3,4,5]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userRepository, never()).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void batchGet_ShouldReturn400_WhenIdsAreEmpty() {
+        webTestClient.post()
+                .uri("/api/users/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\":[]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void batchGetNdjson_ShouldStreamFoundUsersInRequestOrder() {
+        webTestClient.post()
+                .uri("/api/users/batch-get")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\":[2,99,3,1,2]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(UserSummary.class)
+                .value(users -> assertEquals(List.of(2L, 3L, 1L), users.stream().map(UserSummary::id).toList()));
+    }
+
+    @Test
+    void batchGetNdjson_ShouldAllowMoreIds_ButReturn400_OverTheStreamLimit() {
+        webTestClient.post()
+                .uri("/api/users/batch-get")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\":[1,2,3,4,5]}")
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.post()
+                .uri("/api/users/batch-get")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"ids\":[1,2,3,4,5,6,7]}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.interview.dataset;
+
+import com.interview.dataset.SyntheticUserGenerator.SyntheticUser;
+import com.interview.repository.sharding.UserShards;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticDataLoaderTest {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    private DatabaseClient databaseClient;
+    private SyntheticDataLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory =
+                ConnectionFactories.get("r2dbc:h2:mem:///synthetic-data?options=DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                .populate(connectionFactory)
+                .block();
+        databaseClient = DatabaseClient.create(connectionFactory);
+        loader = new SyntheticDataLoader(databaseClient, new R2dbcTransactionManager(connectionFactory),
+                passwordEncoder, new DefaultListableBeanFactory().getBeanProvider(UserShards.class));
+        ReflectionTestUtils.setField(loader, "users", 2_500L);
+        ReflectionTestUtils.setField(loader, "batchSize", 1_000);
+        ReflectionTestUtils.setField(loader, "adminRatio", 0.1);
+    }
+
+    @Test
+    void load_ShouldInsertUsersWithRolesInBatches() {
+        // When & Then
+        StepVerifier.create(loader.load())
+                .expectNext(2_500L)
+                .verifyComplete();
+
+        assertEquals(2_500L, count("SELECT COUNT(*) FROM users WHERE email LIKE '%@example.com'"));
+        assertEquals(2_500L, withRole("USER", "%@example.com"));
+        // Roles went to the right rows: exactly the generator's admins hold ADMIN
+        SyntheticUserGenerator generator = new SyntheticUserGenerator(42, 0.1, 0.03);
+        List<SyntheticUser> admins = LongStream.range(0, 2_500)
+                .mapToObj(generator::generate)
+                .filter(SyntheticUser::admin)
+                .toList();
+        assertEquals(admins.size(), withRole("ADMIN", "%@example.com"));
+        assertEquals(1L, withRole("ADMIN", admins.get(0).email()));
+        assertEquals(1L, withRole("ADMIN", admins.get(admins.size() - 1).email()));
+        String hash = databaseClient.sql("SELECT password FROM users WHERE email = :email")
+                .bind("email", generator.generate(2_499).email())
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+        assertTrue(passwordEncoder.matches("password", hash));
+    }
+
+    @Test
+    void load_ShouldSkip_WhenDatasetIsAlreadyLoaded() {
+        // Given
+        loader.load().block();
+
+        // When & Then
+        StepVerifier.create(loader.load())
+                .expectNext(0L)
+                .verifyComplete();
+
+        assertEquals(2_500L, count("SELECT COUNT(*) FROM users WHERE email LIKE '%@example.com'"));
+    }
+
+    private long withRole(String role, String emailPattern) {
+        return databaseClient.sql("SELECT COUNT(*) FROM user_roles ur JOIN roles r ON r.id = ur.role_id "
+                        + "JOIN users u ON u.id = ur.user_id WHERE r.name = :role AND u.email LIKE :email")
+                .bind("role", role)
+                .bind("email", emailPattern)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+    }
+
+    private long count(String sql) {
+        return databaseClient.sql(sql).map(row -> row.get(0, Long.class)).one().block();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.interview.dataset;
+
+import com.interview.dataset.SyntheticUserGenerator.SyntheticUser;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticUserGeneratorTest {
+
+    private static final int SAMPLE = 20_000;
+
+    @Test
+    void generate_ShouldBeDeterministicForASeed() {
+        // Given
+        SyntheticUserGenerator first = new SyntheticUserGenerator(7, 0.01, 0.03);
+        SyntheticUserGenerator second = new SyntheticUserGenerator(7, 0.01, 0.03);
+
+        // When & Then
+        assertEquals(first.generate(12_345), second.generate(12_345));
+        assertNotEquals(first.generate(12_345), new SyntheticUserGenerator(8, 0.01, 0.03).generate(12_345));
+    }
+
+    @Test
+    void generate_ShouldProduceUniqueEmailsThatFitTheSchema() {
+        // Given
+        SyntheticUserGenerator generator = new SyntheticUserGenerator(42, 0.01, 0.03);
+        Set<String> emails = new HashSet<>();
+
+        // When & Then
+        for (long index = 0; index < SAMPLE; index++) {
+            SyntheticUser user = generator.generate(index);
+            assertTrue(emails.add(user.email()), user.email());
+            assertTrue(user.name().length() <= 50 && user.email().length() <= 100, user.toString());
+        }
+    }
+
+    @Test
+    void generate_ShouldSkewDepartmentsAndHonourRatios() {
+        // Given
+        SyntheticUserGenerator generator = new SyntheticUserGenerator(42, 0.01, 0.03);
+        Map<String, Integer> departments = new HashMap<>();
+
+        // When
+        long admins = 0;
+        long disabled = 0;
+        for (long index = 0; index < SAMPLE; index++) {
+            SyntheticUser user = generator.generate(index);
+            departments.merge(user.department(), 1, Integer::sum);
+            admins += user.admin() ? 1 : 0;
+            disabled += user.enabled() ? 0 : 1;
+        }
+
+        // Then
+        assertEquals(12, departments.size());
+        assertTrue(departments.get("Engineering") > 5 * departments.get("Facilities"), departments.toString());
+        assertTrue(admins > SAMPLE * 0.005 && admins < SAMPLE * 0.015, "admins: " + admins);
+        assertTrue(disabled > SAMPLE * 0.02 && disabled < SAMPLE * 0.04, "disabled: " + disabled);
+    }
+
+    @Test
+    void generate_ShouldRepeatCommonNamesMoreThanRareOnes() {
+        // Given
+        SyntheticUserGenerator generator = new SyntheticUserGenerator(42, 0.01, 0.03);
+
+        // When
+        long smiths = LongStream.range(0, SAMPLE).filter(i -> generator.generate(i).name().endsWith(" Smith")).count();
+        long quispes = LongStream.range(0, SAMPLE).filter(i -> generator.generate(i).name().endsWith(" Quispe")).count();
+
+        // Then
+        assertTrue(smiths > 10 * quispes && quispes > 0, smiths + " Smiths, " + quispes + " Quispes");
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.interview.handler;
 
 import com.interview.model.User;
+import com.interview.model.UserSummary;
 import com.interview.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,8 @@ class UserHandlerTest {
         User user2 = new User("Jane Smith", "jane@example.com", "Marketing");
         user2.setId(2L);
         
-        when(userService.getAllUsers()).thenReturn(Flux.just(testUser, user2));
+        when(userService.getAllUsers())
+                .thenReturn(Flux.just(UserSummary.from(testUser), UserSummary.from(user2)));
         
         ServerRequest request = MockServerRequest.builder().build();
 
@@ -55,7 +57,7 @@ class UserHandlerTest {
     @Test
     void getUserById_ShouldReturnOkResponse_WhenUserExists() {
         // Given
-        when(userService.getUserById(1L)).thenReturn(Mono.just(testUser));
+        when(userService.getUserById(1L)).thenReturn(Mono.just(UserSummary.from(testUser)));
         
         ServerRequest request = MockServerRequest.builder()
                 .pathVariable("id", "1")
@@ -0,0 +1,131 @@
+package com.interview.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and error counts for one load run.
+ *
+ * Latencies are recorded in microseconds, from 1 us up to one minute at three
+ * significant digits. Output:
+ * - a summary table on stdout
+ * - {@code summary.csv} with one row per endpoint
+ * - one {@code <endpoint>.hgrm} percentile distribution per endpoint, in the
+ *   format HdrHistogram's plotter and most comparison tools read
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, Endpoint::new);
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. at the end of the warm-up.
+     */
+    void reset() {
+        endpoints.values().forEach(Endpoint::reset);
+    }
+
+    void print(PrintStream out, Duration elapsed) {
+        out.printf("%-26s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : endpoints.values()) {
+            Histogram histogram = endpoint.histogram;
+            out.printf(Locale.ROOT, "%-26s %9d %8.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.name, endpoint.requests(), endpoint.requests() / seconds(elapsed), endpoint.errorRate() * 100,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+    }
+
+    void write(Path directory, Duration elapsed) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream csv = new PrintStream(Files.newOutputStream(directory.resolve("summary.csv")))) {
+            csv.println("endpoint,requests,requests_per_second,errors,dropped,error_rate,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+            for (Endpoint endpoint : endpoints.values()) {
+                Histogram histogram = endpoint.histogram;
+                csv.printf(Locale.ROOT, "%s,%d,%.2f,%d,%d,%.5f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                        endpoint.name, endpoint.requests(), endpoint.requests() / seconds(elapsed),
+                        endpoint.errors.sum(), endpoint.dropped.sum(), endpoint.errorRate(),
+                        millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                        millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue()));
+            }
+        }
+        for (Endpoint endpoint : endpoints.values()) {
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(directory.resolve(endpoint.name + ".hgrm")))) {
+                // Scaled so the file reads in milliseconds
+                endpoint.histogram.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static double seconds(Duration elapsed) {
+        return Math.max(elapsed.toMillis(), 1) / 1000.0;
+    }
+
+    static final class Endpoint {
+
+        private final String name;
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        private Endpoint(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Records a completed request; {@code latencyNanos} is measured from when
+         * it was due to be sent, not when it actually was.
+         */
+        void record(long latencyNanos, boolean failed) {
+            histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        /**
+         * Counts a request that was never sent because too many were in flight.
+         */
+        void drop() {
+            dropped.increment();
+        }
+
+        long requests() {
+            return histogram.getTotalCount() + dropped.sum();
+        }
+
+        double errorRate() {
+            long requests = requests();
+            return requests == 0 ? 0 : (double) (errors.sum() + dropped.sum()) / requests;
+        }
+
+        private void reset() {
+            histogram.reset();
+            errors.reset();
+            dropped.reset();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,248 @@
+package com.interview.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interview.SpringReactiveDemoApplication;
+import com.interview.security.jwt.JwtUtil;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Open-model load generator: boots the application on a random port and drives a
+ * mix of workloads at it through Reactor Netty's {@link HttpClient}.
+ *
+ * Each workload sends requests at a fixed rate whether or not earlier ones have
+ * completed, so a slow server builds up a queue instead of slowing the load down.
+ * Latency is measured from when a request was due rather than when it went out,
+ * so that queueing shows up in the percentiles (no coordinated omission).
+ *
+ * The client runs on its own event loops and connection pool, and everything
+ * stays on localhost with the in-memory database, so a run needs nothing but this
+ * machine. Results go to {@link LatencyReport}.
+ *
+ * Not part of the test suite; run it with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.interview.loadtest.LoadGenerator}
+ *
+ * Settings (system properties):
+ * - {@code load.duration} (30s) measured run, after {@code load.warmup} (10s) whose results are discarded
+ * - {@code load.rate.<workload>} requests per second for one workload, 0 disables it
+ * - {@code load.rate-multiplier} (1.0) scales every rate; the defaults add up to
+ *   about 55 requests per second, a light load meant to be scaled up
+ * - {@code load.max-in-flight} (2000) per workload; requests beyond it are dropped and count as errors
+ * - {@code load.users} (20) accounts registered for the run
+ * - {@code load.report-dir} (target/load-test)
+ */
+public class LoadGenerator {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final String BATCH_IDS = "{\"ids\":[1,2,3,4,5,6]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client;
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<String> emails = new ArrayList<>();
+    private String userToken;
+    private String adminToken;
+
+    private LoadGenerator(HttpClient client) {
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Duration warmup = duration("load.warmup", "10s");
+        Duration duration = duration("load.duration", "30s");
+        int maxInFlight = Integer.getInteger("load.max-in-flight", 2_000);
+        Path reportDir = Path.of(System.getProperty("load.report-dir", "target/load-test"));
+
+        // Arguments rather than default properties, so they win over application.yml
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringReactiveDemoApplication.class).run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--logging.level.com.interview=WARN",
+                "--logging.level.org.springframework.r2dbc=WARN",
+                "--logging.level.io.r2dbc.h2=WARN",
+                "--logging.level.org.springframework.security=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        ConnectionProvider connections = ConnectionProvider.builder("load-test")
+                .maxConnections(1_000)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        LoopResources loops = LoopResources.create("load-test", 2, true);
+        HttpClient client = HttpClient.create(connections)
+                .runOn(loops)
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(Duration.ofSeconds(30));
+        try {
+            LoadGenerator generator = new LoadGenerator(client);
+            generator.setUp(Integer.getInteger("load.users", 20),
+                    context.getBean(JwtUtil.class).generateToken("admin@company.com", List.of("ADMIN", "USER")));
+            List<Workload> workloads = generator.workloads();
+            LatencyReport report = new LatencyReport();
+            workloads.forEach(workload -> report.endpoint(workload.name()));
+
+            System.out.println("Warming up for " + warmup.toSeconds() + "s");
+            run(workloads, report, warmup, maxInFlight);
+            report.reset();
+
+            System.out.println("Measuring for " + duration.toSeconds() + "s");
+            long start = System.nanoTime();
+            run(workloads, report, duration, maxInFlight);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            report.print(System.out, elapsed);
+            report.write(reportDir, elapsed);
+            System.out.println("Reports written to " + reportDir.toAbsolutePath());
+        } finally {
+            connections.dispose();
+            loops.dispose();
+            context.close();
+        }
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private static void run(List<Workload> workloads, LatencyReport report, Duration duration, int maxInFlight) {
+        double multiplier = Double.parseDouble(System.getProperty("load.rate-multiplier", "1.0"));
+        List<Flux<Void>> streams = new ArrayList<>();
+        for (Workload workload : workloads) {
+            double rate = Double.parseDouble(System.getProperty("load.rate." + workload.name(),
+                    String.valueOf(workload.defaultRate()))) * multiplier;
+            if (rate > 0) {
+                streams.add(drive(workload, rate, report.endpoint(workload.name()), duration, maxInFlight));
+            }
+        }
+        Flux.merge(streams).blockLast();
+    }
+
+    private static Flux<Void> drive(Workload workload, double rate, LatencyReport.Endpoint endpoint,
+                                    Duration duration, int maxInFlight) {
+        long periodNanos = (long) (1_000_000_000L / rate);
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            return Flux.interval(Duration.ZERO, Duration.ofNanos(periodNanos))
+                    .take(duration)
+                    .onBackpressureDrop(tick -> endpoint.drop())
+                    .flatMap(tick -> {
+                        long due = start + tick * periodNanos;
+                        return workload.request().apply(tick)
+                                .map(status -> status >= 400)
+                                .onErrorReturn(true)
+                                .doOnNext(failed -> endpoint.record(System.nanoTime() - due, failed))
+                                .then();
+                    }, maxInFlight);
+        });
+    }
+
+    private void setUp(int users, String adminToken) {
+        this.adminToken = adminToken;
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < users; i++) {
+            String email = "load-" + runId + "-" + i + "@example.com";
+            String body = "{\"name\":\"Load User " + i + "\",\"email\":\"" + email + "\",\"password\":\"" + PASSWORD
+                    + "\",\"department\":\"Load\"}";
+            JsonNode registered = json(exchange(HttpMethod.POST, "/api/auth/register", null, body).block());
+            userIds.add(registered.get("id").asLong());
+            emails.add(email);
+        }
+        userToken = json(exchange(HttpMethod.POST, "/api/auth/login", null, login(0)).block()).get("token").asText();
+    }
+
+    private List<Workload> workloads() {
+        return List.of(
+                // BCrypt makes logins expensive on purpose
+                new Workload("auth.login", 1, n -> status(HttpMethod.POST, "/api/auth/login", null, login(n))),
+                // Every element is delayed 100 ms by UserService
+                new Workload("users.list", 0.5, n -> status(HttpMethod.GET, "/api/users", userToken, null)),
+                new Workload("users.get", 20, n -> status(HttpMethod.GET, "/api/users/" + (n % 6 + 1), userToken, null)),
+                new Workload("users.search", 5, n -> status(HttpMethod.GET, "/api/users/search?name=o", userToken, null)),
+                new Workload("users.department", 5,
+                        n -> status(HttpMethod.GET, "/api/users/department/Engineering", userToken, null)),
+                new Workload("users.batch-get", 5,
+                        n -> status(HttpMethod.POST, "/api/users/batch-get", userToken, BATCH_IDS)),
+                new Workload("admin.roles", 3, n -> status(HttpMethod.GET, "/api/admin/roles", adminToken, null)),
+                new Workload("admin.users-with-roles", 3,
+                        n -> status(HttpMethod.GET, "/api/admin/users-with-roles?size=20", adminToken, null)),
+                new Workload("admin.role-toggle", 1, this::toggleAdminRole),
+                new Workload("functional.users.get", 10,
+                        n -> status(HttpMethod.GET, "/api/functional/users/" + (n % 6 + 1), userToken, null)),
+                new Workload("functional.users.list", 0.5,
+                        n -> status(HttpMethod.GET, "/api/functional/users", userToken, null)));
+    }
+
+    // Grants and revokes ADMIN on one of the load accounts; the worse status of the two counts
+    private Mono<Integer> toggleAdminRole(long n) {
+        String path = "/api/admin/users/" + userIds.get((int) (n % userIds.size())) + "/roles/1";
+        return status(HttpMethod.POST, path, adminToken, null)
+                .zipWhen(granted -> status(HttpMethod.DELETE, path, adminToken, null), Math::max);
+    }
+
+    private String login(long n) {
+        return "{\"email\":\"" + emails.get((int) (n % emails.size())) + "\",\"password\":\"" + PASSWORD + "\"}";
+    }
+
+    private Mono<Integer> status(HttpMethod method, String uri, String token, String body) {
+        return request(method, uri, token, body)
+                .responseSingle((response, content) -> content.asString()
+                        .defaultIfEmpty("")
+                        .thenReturn(response.status().code()));
+    }
+
+    private Mono<String> exchange(HttpMethod method, String uri, String token, String body) {
+        return request(method, uri, token, body)
+                .responseSingle((response, content) -> {
+                    if (response.status().code() >= 400) {
+                        return Mono.error(new IllegalStateException(method + " " + uri + " returned " + response.status()));
+                    }
+                    return content.asString();
+                });
+    }
+
+    private HttpClient.ResponseReceiver<?> request(HttpMethod method, String uri, String token, String body) {
+        HttpClient authorized = client.headers(headers -> {
+            if (token != null) {
+                headers.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + token);
+            }
+            if (body != null) {
+                headers.set(HttpHeaderNames.CONTENT_TYPE, "application/json");
+            }
+        });
+        return authorized.request(method)
+                .uri(uri)
+                .send(body != null ? ByteBufFlux.fromString(Mono.just(body)) : Mono.empty());
+    }
+
+    private JsonNode json(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected response: " + body, e);
+        }
+    }
+
+    /**
+     * A request type and the rate it is sent at; the function gets the request's
+     * sequence number, to spread requests over ids and accounts.
+     */
+    private record Workload(String name, double defaultRate, LongFunction<Mono<Integer>> request) {
+    }
+}
\ No newline at end of file
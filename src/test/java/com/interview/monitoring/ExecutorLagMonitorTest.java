@@ -0,0 +1,90 @@
+package com.interview.monitoring;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExecutorLagMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorLagMonitor monitor = new ExecutorLagMonitor();
+    private Scheduler scheduler;
+    // Meters live in the global registry, so each test watches under its own name
+    private String name;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        name = testInfo.getTestMethod().orElseThrow().getName();
+        Metrics.addRegistry(registry);
+        ReflectionTestUtils.setField(monitor, "lagThreshold", Duration.ofMillis(20));
+        // Bounded elastic, as the stall test blocks its thread on purpose
+        scheduler = Schedulers.newBoundedElastic(1, Integer.MAX_VALUE, "lag-test");
+        monitor.watch(name, scheduler, "lag-test-");
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void check_ShouldRecordLag_WhenExecutorIsIdle() throws InterruptedException {
+        // When
+        monitor.check();
+        awaitProbe();
+
+        // Then
+        assertEquals(1, registry.get("executor.lag").tag("executor", name).timer().count());
+        assertEquals(0.0, registry.get("executor.stalls").tag("executor", name).functionCounter().count());
+    }
+
+    @Test
+    void check_ShouldCountStallAndReportQueue_WhenExecutorIsBlocked() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler.schedule(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        scheduler.schedule(() -> { });
+
+        // When
+        monitor.check();
+        Thread.sleep(50);
+        monitor.check();
+        double queued = registry.get("executor.queued").tag("executor", name).gauge().value();
+        release.countDown();
+        awaitProbe();
+
+        // Then
+        assertTrue(queued >= 2, "blocked task plus the probe behind it");
+        assertEquals(1.0, registry.get("executor.stalls").tag("executor", name).functionCounter().count());
+        assertTrue(registry.get("executor.lag").tag("executor", name).timer()
+                .max(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    private void awaitProbe() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (registry.get("executor.lag").tag("executor", name).timer().count() == 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.interview.monitoring;
+
+import com.interview.security.jwt.JwtAuthenticationManager;
+import com.interview.security.jwt.JwtUtil;
+import com.interview.service.notification.InProcessNotificationProvider;
+import com.interview.service.notification.Notification;
+import com.interview.service.notification.NotificationDispatcher;
+import com.interview.service.notification.NotificationTemplates;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable(JwtVerificationEvent.class);
+        recording.enable(NotificationBatchEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void jwtVerification_ShouldEmitEventWithOutcomeAndNoSubject() throws Exception {
+        // Given
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "mySecretKey1234567890123456789012345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600L);
+        String token = jwtUtil.generateToken("admin", List.of("ADMIN"));
+        JwtAuthenticationManager authenticationManager = new JwtAuthenticationManager(jwtUtil);
+
+        // When
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(token, token)).block();
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("garbage", "garbage")).block();
+
+        // Then
+        List<RecordedEvent> events = recordedEvents("com.interview.JwtVerification");
+        assertEquals(2, events.size());
+        assertEquals("accepted", events.get(0).getString("outcome"));
+        assertEquals(1, events.get(0).getInt("authorities"));
+        assertFalse(events.get(0).hasField("subject"));
+        assertEquals("rejected", events.get(1).getString("outcome"));
+    }
+
+    @Test
+    void notificationDispatch_ShouldEmitOneEventPerBatch() throws Exception {
+        // Given
+        InProcessNotificationProvider provider = new InProcessNotificationProvider(Duration.ZERO, 0.0, 2);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(provider, new NotificationTemplates(Locale.ENGLISH), 0);
+
+        // When
+        dispatcher.dispatch(Flux.just(
+                        Notification.welcome("a@example.com"),
+                        Notification.welcome("b@example.com"),
+                        Notification.welcome("c@example.com")))
+                .blockLast();
+
+        // Then
+        List<RecordedEvent> events = recordedEvents("com.interview.NotificationBatch");
+        assertEquals(2, events.size());
+        assertEquals(3, events.stream().mapToInt(event -> event.getInt("batchSize")).sum());
+        events.forEach(event -> {
+            assertEquals("sent", event.getString("outcome"));
+            assertEquals(1, event.getInt("attempts"));
+        });
+    }
+
+    private List<RecordedEvent> recordedEvents(String name) throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+package com.interview.performance;
+
+import com.interview.security.jwt.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Per-endpoint performance budgets, checked against the running application:
+ * - the repository queries one request makes, by repository method
+ * - bytes allocated per request on the server side, from the JVM's per-thread
+ *   allocation counters (the client runs on its own threads, which are excluded)
+ * - p99 latency under open-model load at the endpoint's fixed rate, measured from
+ *   each request's due time
+ *
+ * Budgets and rates live in {@code performance-budgets.properties}. A failure
+ * lists the budget next to the measured value, and for queries the methods added
+ * or removed. Every run writes its measurements to
+ * {@code target/performance/measured.properties} in the same format, so an
+ * intended change can be accepted by copying the lines over.
+ *
+ * Tagged {@code performance} and excluded from the default build; run with
+ * {@code mvn test -Pperformance}.
+ */
+@Tag("performance")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///testdb-performance",
+        // Debug logging would dominate both allocation and latency
+        "logging.level.com.interview=WARN",
+        "logging.level.org.springframework.r2dbc=WARN",
+        "logging.level.io.r2dbc.h2=WARN",
+        "logging.level.org.springframework.security=WARN",
+        // Keep background pollers from adding queries and allocations of their own
+        "app.outbox.poll-interval=1h",
+        "app.notifications.scheduler.horizon=24h",
+        "app.monitoring.executor-lag.enabled=false"
+})
+class PerformanceBudgetTest {
+
+    private static final String BUDGETS = "performance-budgets.properties";
+    private static final Path MEASURED = Path.of("target/performance/measured.properties");
+    private static final String PASSWORD = "budget-test-password";
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration ALLOCATION_SAMPLE = Duration.ofSeconds(2);
+    private static final Duration LOAD = Duration.ofSeconds(3);
+    private static final String CLIENT_THREADS = "perf-client";
+
+    private static final Map<String, String> measured = new TreeMap<>();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private HttpClient client;
+
+    @TestFactory
+    Stream<DynamicTest> endpointsStayWithinBudget() throws IOException {
+        Properties budgets = loadBudgets();
+        LoopResources loops = LoopResources.create(CLIENT_THREADS, 1, true);
+        ConnectionProvider connections = ConnectionProvider.builder(CLIENT_THREADS).maxConnections(500).build();
+        client = HttpClient.create(connections).runOn(loops).baseUrl("http://localhost:" + port);
+
+        String userToken = jwtUtil.generateToken("john.doe@company.com", List.of("USER"));
+        String adminToken = jwtUtil.generateToken("admin@company.com", List.of("ADMIN", "USER"));
+        String email = "budget-" + System.nanoTime() + "@example.com";
+        send(new Request(HttpMethod.POST, "/api/auth/register", null,
+                "{\"name\":\"Budget User\",\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}")).block();
+
+        List<Endpoint> endpoints = List.of(
+                new Endpoint("auth.login", new Request(HttpMethod.POST, "/api/auth/login", null,
+                        "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}")),
+                new Endpoint("users.list", new Request(HttpMethod.GET, "/api/users", userToken, null)),
+                new Endpoint("users.get", new Request(HttpMethod.GET, "/api/users/1", userToken, null)),
+                new Endpoint("users.search", new Request(HttpMethod.GET, "/api/users/search?name=o", userToken, null)),
+                new Endpoint("users.department",
+                        new Request(HttpMethod.GET, "/api/users/department/Engineering", userToken, null)),
+                new Endpoint("users.batch-get", new Request(HttpMethod.POST, "/api/users/batch-get", userToken,
+                        "{\"ids\":[1,2,3,4,5,6]}")),
+                new Endpoint("admin.roles", new Request(HttpMethod.GET, "/api/admin/roles", adminToken, null)),
+                new Endpoint("admin.users-with-roles",
+                        new Request(HttpMethod.GET, "/api/admin/users-with-roles?size=20", adminToken, null)),
+                new Endpoint("functional.users.get",
+                        new Request(HttpMethod.GET, "/api/functional/users/1", userToken, null)));
+
+        return Stream.concat(
+                endpoints.stream().map(endpoint -> DynamicTest.dynamicTest(endpoint.name(), () -> check(endpoint, budgets))),
+                Stream.of(DynamicTest.dynamicTest("release client", () -> {
+                    connections.dispose();
+                    loops.dispose();
+                })));
+    }
+
+    @AfterAll
+    static void writeMeasurements() throws IOException {
+        Files.createDirectories(MEASURED.getParent());
+        List<String> lines = new ArrayList<>();
+        lines.add("# Measured by PerformanceBudgetTest; copy into src/test/resources/" + BUDGETS + " to accept");
+        measured.forEach((key, value) -> lines.add(key + "=" + value));
+        Files.write(MEASURED, lines);
+    }
+
+    private void check(Endpoint endpoint, Properties budgets) {
+        String name = endpoint.name();
+        double rate = Double.parseDouble(required(budgets, name + ".rate"));
+        List<String> violations = new ArrayList<>();
+
+        repeatFor(endpoint.request(), WARMUP);
+
+        // Queries: one request, diffed against the repository invocation counters
+        Map<String, Long> before = repositoryInvocations();
+        requireSuccess(endpoint, send(endpoint.request()).block());
+        sleep(100);
+        Map<String, Long> queries = difference(repositoryInvocations(), before);
+        Map<String, Long> budgetQueries = parseQueries(required(budgets, name + ".queries"));
+        if (!queries.equals(budgetQueries)) {
+            violations.add("repository queries changed\n"
+                    + "    budget:   " + formatQueries(budgetQueries) + "\n"
+                    + "    measured: " + formatQueries(queries) + "\n"
+                    + "    added:    " + formatQueries(difference(queries, budgetQueries)) + "\n"
+                    + "    removed:  " + formatQueries(difference(budgetQueries, queries)));
+        }
+
+        // Allocation: everything but the client's and this thread, averaged over a sample
+        long allocatedBefore = serverAllocatedBytes();
+        int requests = repeatFor(endpoint.request(), ALLOCATION_SAMPLE);
+        double allocatedKb = (serverAllocatedBytes() - allocatedBefore) / 1024.0 / requests;
+        double allocationBudget = Double.parseDouble(required(budgets, name + ".allocated-kb"));
+        if (allocatedKb > allocationBudget) {
+            violations.add(String.format(Locale.ROOT, "allocated %.1f KB per request, budget %.0f KB (%+.0f%%)",
+                    allocatedKb, allocationBudget, (allocatedKb / allocationBudget - 1) * 100));
+        }
+
+        // Latency: open-model load at the budgeted rate
+        Histogram latencies = underLoad(endpoint.request(), rate, LOAD);
+        double p99 = latencies.getValueAtPercentile(99) / 1000.0;
+        double latencyBudget = Double.parseDouble(required(budgets, name + ".p99-ms"));
+        if (p99 > latencyBudget) {
+            violations.add(String.format(Locale.ROOT, "p99 %.1f ms at %.0f req/s, budget %.0f ms (%+.0f%%)",
+                    p99, rate, latencyBudget, (p99 / latencyBudget - 1) * 100));
+        }
+
+        measured.put(name + ".rate", budgets.getProperty(name + ".rate"));
+        measured.put(name + ".queries", String.join(",", formatQueries(queries)));
+        measured.put(name + ".allocated-kb", String.format(Locale.ROOT, "%.1f", allocatedKb));
+        measured.put(name + ".p99-ms", String.format(Locale.ROOT, "%.1f", p99));
+        System.out.printf(Locale.ROOT, "%-24s queries=%s allocated=%.1fKB p99=%.1fms%n",
+                name, formatQueries(queries), allocatedKb, p99);
+
+        if (!violations.isEmpty()) {
+            fail(name + " is over budget:\n  - " + String.join("\n  - ", violations));
+        }
+    }
+
+    private int repeatFor(Request request, Duration duration) {
+        long end = System.nanoTime() + duration.toNanos();
+        int count = 0;
+        // At least a few, so slow endpoints still get a meaningful sample
+        while (count < 3 || System.nanoTime() < end) {
+            send(request).block();
+            count++;
+        }
+        return count;
+    }
+
+    private Histogram underLoad(Request request, double rate, Duration duration) {
+        Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        long periodNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        Flux.interval(Duration.ZERO, Duration.ofNanos(periodNanos))
+                .take(duration)
+                .flatMap(tick -> {
+                    long due = start + tick * periodNanos;
+                    return send(request).doOnNext(status -> histogram.recordValue(
+                            Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due), histogram.getHighestTrackableValue())));
+                }, 10_000)
+                .blockLast();
+        return histogram;
+    }
+
+    private Mono<Integer> send(Request request) {
+        return client.headers(headers -> {
+                    if (request.token() != null) {
+                        headers.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + request.token());
+                    }
+                    if (request.body() != null) {
+                        headers.set(HttpHeaderNames.CONTENT_TYPE, "application/json");
+                    }
+                })
+                .request(request.method())
+                .uri(request.uri())
+                .send(request.body() != null ? ByteBufFlux.fromString(Mono.just(request.body())) : Mono.empty())
+                .responseSingle((response, content) -> content.asString()
+                        .defaultIfEmpty("")
+                        .thenReturn(response.status().code()));
+    }
+
+    private Map<String, Long> repositoryInvocations() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Timer timer : meterRegistry.find("spring.data.repository.invocations").timers()) {
+            counts.merge(timer.getId().getTag("repository") + "." + timer.getId().getTag("method"),
+                    timer.count(), Long::sum);
+        }
+        return counts;
+    }
+
+    private static long serverAllocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] ids = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread != Thread.currentThread() && !thread.getName().startsWith(CLIENT_THREADS))
+                .mapToLong(Thread::getId)
+                .toArray();
+        // -1 for threads that ended in the meantime
+        return LongStream.of(threads.getThreadAllocatedBytes(ids)).filter(bytes -> bytes > 0).sum();
+    }
+
+    private static Map<String, Long> difference(Map<String, Long> counts, Map<String, Long> minus) {
+        Map<String, Long> difference = new TreeMap<>();
+        counts.forEach((query, count) -> {
+            long remaining = count - minus.getOrDefault(query, 0L);
+            if (remaining > 0) {
+                difference.put(query, remaining);
+            }
+        });
+        return difference;
+    }
+
+    // "UserRepository.findByEmail,RoleRepository.findByUserId*2"
+    private static Map<String, Long> parseQueries(String value) {
+        Map<String, Long> queries = new TreeMap<>();
+        for (String entry : value.split(",")) {
+            if (!entry.isBlank()) {
+                String[] parts = entry.trim().split("\\*");
+                queries.merge(parts[0], parts.length > 1 ? Long.parseLong(parts[1]) : 1L, Long::sum);
+            }
+        }
+        return queries;
+    }
+
+    private static List<String> formatQueries(Map<String, Long> queries) {
+        return queries.entrySet().stream()
+                .map(entry -> entry.getValue() == 1 ? entry.getKey() : entry.getKey() + "*" + entry.getValue())
+                .toList();
+    }
+
+    private static void requireSuccess(Endpoint endpoint, Integer status) {
+        if (status == null || status >= 400) {
+            fail(endpoint.name() + " returned " + status + ", budgets only apply to successful requests");
+        }
+    }
+
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = PerformanceBudgetTest.class.getClassLoader().getResourceAsStream(BUDGETS)) {
+            assertNotNull(in, BUDGETS + " is missing");
+            budgets.load(in);
+        }
+        return budgets;
+    }
+
+    private static String required(Properties budgets, String key) {
+        String value = budgets.getProperty(key);
+        if (value == null) {
+            fail("No budget " + key + " in " + BUDGETS);
+        }
+        return value;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Request(HttpMethod method, String uri, String token, String body) {
+    }
+
+    private record Endpoint(String name, Request request) {
+    }
+}
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import org.springframework.test.context.TestPropertySource;
 import reactor.test.StepVerifier;
 
+import java.util.List;
 import java.util.UUID;
 
 @DataR2dbcTest
@@ -99,4 +100,35 @@ class UserRepositoryTest {
                 .expectNextMatches(users -> users.size() >= 5) // At least 5 users (4 from data.sql + our test user)
                 .verifyComplete();
     }
+
+    @Test
+    void findSummariesByDepartment_ShouldReturnProjectionWithoutPassword() {
+        StepVerifier.create(userRepository.findSummariesByDepartment("Engineering").collectList())
+                .expectNextMatches(summaries -> summaries.size() == 2 &&
+                        summaries.stream().allMatch(summary -> summary.id() != null && summary.email() != null))
+                .verifyComplete();
+    }
+
+    @Test
+    void findSummaryById_ShouldReturnSummary() {
+        StepVerifier.create(userRepository.findByEmail("john.doe@company.com")
+                .flatMap(user -> userRepository.findSummaryById(user.getId())))
+                .expectNextMatches(summary -> summary.name().equals("John Doe") && summary.enabled())
+                .verifyComplete();
+    }
+
+    @Test
+    void findVersionById_ShouldReturnRowVersion() {
+        StepVerifier.create(userRepository.findByEmail("jane.smith@company.com")
+                .flatMap(user -> userRepository.findVersionById(user.getId())))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findSummariesByIdIn_ShouldReturnOnlyExistingIds() {
+        StepVerifier.create(userRepository.findSummariesByIdIn(List.of(1L, 2L, 9999L)).collectList())
+                .expectNextMatches(summaries -> summaries.size() == 2)
+                .verifyComplete();
+    }
 }
\ No newline at end of file
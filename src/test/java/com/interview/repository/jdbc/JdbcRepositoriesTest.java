@@ -0,0 +1,199 @@
+package com.interview.repository.jdbc;
+
+import com.interview.model.User;
+import com.interview.model.UserSummary;
+import com.interview.repository.OutboxRepository;
+import com.interview.repository.UserRepository;
+import com.interview.security.model.Role;
+import com.interview.security.model.UserRoleRow;
+import com.interview.security.repository.RoleRepository;
+import com.interview.security.repository.UserRoleRepository;
+import com.interview.security.service.RoleService;
+import com.interview.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@DataR2dbcTest
+@TestPropertySource(properties = {
+    "spring.r2dbc.url=r2dbc:h2:mem:///testdb-jdbc?options=DB_CLOSE_DELAY=-1",
+    "spring.sql.init.mode=always",
+    "app.persistence.mode=jdbc",
+    "app.persistence.jdbc.url=jdbc:h2:mem:testdb-jdbc;DB_CLOSE_DELAY=-1",
+    // Keep queued notifications in place for the assertions
+    "app.outbox.poll-interval=1h"
+})
+class JdbcRepositoriesTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void repositories_ShouldBeJdbc() {
+        assertInstanceOf(JdbcUserRepository.class, userRepository);
+        assertInstanceOf(JdbcRoleRepository.class, roleRepository);
+        assertInstanceOf(JdbcUserRoleRepository.class, userRoleRepository);
+        assertInstanceOf(JdbcOutboxRepository.class, outboxRepository);
+        assertInstanceOf(JdbcReactiveTransactionManager.class, transactionManager);
+    }
+
+    @Test
+    void queries_ShouldReadTheDataSeededThroughR2dbc() {
+        StepVerifier.create(userRepository.findSummariesByIdIn(List.of(4L, 1L, 999L)).map(UserSummary::id))
+                .expectNext(1L, 4L)
+                .verifyComplete();
+        // John Doe (1) and Bob Johnson (3)
+        StepVerifier.create(userRepository.countByDepartment("Engineering"))
+                .expectNext(2L)
+                .verifyComplete();
+        StepVerifier.create(roleRepository.findByUserId(6L).map(Role::getName).sort())
+                .expectNext("ADMIN", "USER")
+                .verifyComplete();
+        StepVerifier.create(userRoleRepository.findUsersWithRoles(5, 1).map(UserRoleRow::roleName))
+                .expectNext("ADMIN", "USER")
+                .verifyComplete();
+    }
+
+    @Test
+    void queryByExample_ShouldMatchTheProbesFields() {
+        // Given
+        User probe = new User();
+        probe.setDepartment("engineering");
+        Example<User> example = Example.of(probe, ExampleMatcher.matching().withIgnoreCase());
+
+        // When & Then
+        StepVerifier.create(userRepository.findAll(example).map(User::getId))
+                .expectNext(1L, 3L)
+                .verifyComplete();
+        StepVerifier.create(userRepository.count(example))
+                .expectNext(2L)
+                .verifyComplete();
+        StepVerifier.create(userRepository.findBy(example, query -> query.sortBy(Sort.by("name")).first())
+                        .map(User::getName))
+                .expectNext("Bob Johnson")
+                .verifyComplete();
+        StepVerifier.create(userRepository.findOne(example))
+                .expectError(IncorrectResultSizeDataAccessException.class)
+                .verify();
+        StepVerifier.create(userRepository.findAll(Example.of(probe,
+                        ExampleMatcher.matching().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING))))
+                .expectError(InvalidDataAccessApiUsageException.class)
+                .verify();
+    }
+
+    @Test
+    void save_ShouldInsertThenUpdateWithOptimisticLocking() {
+        // Given
+        User saved = userRepository.save(newUser()).block();
+        User stale = userRepository.findById(saved.getId()).block();
+        saved.setDepartment("Research");
+
+        // When & Then
+        StepVerifier.create(userRepository.save(saved).map(User::getVersion))
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(userRepository.save(stale))
+                .expectError(OptimisticLockingFailureException.class)
+                .verify();
+        StepVerifier.create(userRepository.findSummaryById(saved.getId()).map(UserSummary::department))
+                .expectNext("Research")
+                .verifyComplete();
+    }
+
+    @Test
+    void save_ShouldTranslateDuplicateEmail() {
+        User first = userRepository.save(newUser()).block();
+
+        StepVerifier.create(userRepository.save(new User("Copy", first.getEmail(), "password", "Testing")))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+
+    @Test
+    void createUser_ShouldWriteUserAndOutboxMessageInOneTransaction() {
+        User created = userService.createUser(newUser()).block();
+
+        assertEquals(1L, countOutbox(created.getEmail()));
+    }
+
+    @Test
+    void transaction_ShouldRollBackEveryJdbcWrite() {
+        // Given
+        User user = newUser();
+
+        // When
+        StepVerifier.create(TransactionalOperator.create(transactionManager).transactional(userRepository.save(user)
+                        .then(Mono.error(new IllegalStateException("boom")))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        StepVerifier.create(userRepository.findByEmail(user.getEmail()))
+                .verifyComplete();
+    }
+
+    @Test
+    void createRole_ShouldBumpCatalogVersion() {
+        Long before = roleRepository.findCatalogVersion().block();
+
+        StepVerifier.create(roleService.createRole(new Role("ROLE_" + UUID.randomUUID(), "Test role")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(roleRepository.findCatalogVersion())
+                .expectNext(before + 1)
+                .verifyComplete();
+    }
+
+    private long countOutbox(String email) {
+        return databaseClient.sql("SELECT COUNT(*) FROM notification_outbox WHERE recipient = :email")
+                .bind("email", email)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+    }
+
+    private static User newUser() {
+        return new User("Jdbc Test", "jdbc-" + UUID.randomUUID() + "@example.com", "password", "Testing");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,263 @@
+package com.interview.repository.sharding;
+
+import com.interview.model.User;
+import com.interview.model.UserSummary;
+import com.interview.repository.UserRepository;
+import com.interview.security.model.Role;
+import com.interview.security.model.UserRoleRow;
+import com.interview.security.repository.RoleRepository;
+import com.interview.security.repository.UserRoleRepository;
+import com.interview.service.UserService;
+import com.interview.support.Sharding;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataR2dbcTest
+@TestPropertySource(properties = {
+    "spring.r2dbc.url=r2dbc:h2:mem:///testdb-shard0",
+    "spring.sql.init.mode=always",
+    "app.sharding.shard-urls=r2dbc:h2:mem:///testdb-shard1,r2dbc:h2:mem:///testdb-shard2",
+    // Keep queued notifications in place for the assertions
+    "app.outbox.poll-interval=1h"
+})
+class ShardedUserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserShards shards;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void repositories_ShouldBeSharded() {
+        assertInstanceOf(ShardedUserRepository.class, userRepository);
+        assertEquals(3, shards.shardCount());
+    }
+
+    @Test
+    void seededUsers_ShouldBeMovedToTheirHomeShard() {
+        // data.sql seeds users 1-6 into shard 0; startup moves them to their home shard
+        for (long id = 1; id <= 6; id++) {
+            assertEquals(1L, countOnShard(shards.shardOf(id), id));
+            assertEquals(1L, countOnAllShards(id));
+        }
+    }
+
+    @Test
+    void findAllSummaries_ShouldMergeShardsInIdOrder() {
+        StepVerifier.create(userRepository.findAllSummaries().map(UserSummary::id).collectList())
+                .expectNextMatches(ids -> ids.containsAll(List.of(1L, 2L, 3L, 4L, 5L, 6L))
+                        && ids.equals(ids.stream().sorted().toList()))
+                .verifyComplete();
+    }
+
+    @Test
+    void countByDepartment_ShouldSumAcrossShards() {
+        // John Doe (1) and Bob Johnson (3)
+        StepVerifier.create(userRepository.countByDepartment("Engineering"))
+                .expectNext(2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findSummariesByIdIn_ShouldGatherFromSeveralShards() {
+        StepVerifier.create(userRepository.findSummariesByIdIn(List.of(6L, 2L, 4L, 1L)).map(UserSummary::id))
+                .expectNext(1L, 2L, 4L, 6L)
+                .verifyComplete();
+    }
+
+    @Test
+    void save_ShouldPlaceNewUserOnHomeShard_AndRegisterEmail() {
+        User user = newUser();
+
+        User saved = userRepository.save(user).block();
+
+        assertTrue(saved.getId() > 6);
+        assertEquals(1L, countOnShard(shards.shardOf(saved.getId()), saved.getId()));
+        StepVerifier.create(userRepository.findByEmail(user.getEmail()).map(User::getId))
+                .expectNext(saved.getId())
+                .verifyComplete();
+    }
+
+    @Test
+    void save_ShouldRejectEmailUsedOnAnotherShard() {
+        User first = userRepository.save(newUser()).block();
+        // Same email; the next id may hash to a different shard, but the directory is global
+        User duplicate = new User("Copy", first.getEmail(), "password", "Testing");
+
+        StepVerifier.create(userRepository.save(duplicate))
+                .expectError()
+                .verify();
+        StepVerifier.create(userRepository.findByEmail(first.getEmail()).map(User::getId))
+                .expectNext(first.getId())
+                .verifyComplete();
+    }
+
+    @Test
+    void save_ShouldMoveDirectoryEntry_WhenEmailChanges() {
+        User saved = userRepository.save(newUser()).block();
+        String oldEmail = saved.getEmail();
+        saved.setEmail("changed-" + oldEmail);
+
+        StepVerifier.create(userRepository.save(saved)
+                        .then(userRepository.findByEmail("changed-" + oldEmail))
+                        .map(User::getId))
+                .expectNext(saved.getId())
+                .verifyComplete();
+        StepVerifier.create(userRepository.findByEmail(oldEmail))
+                .verifyComplete();
+    }
+
+    @Test
+    void deleteById_ShouldReleaseEmail() {
+        User saved = userRepository.save(newUser()).block();
+
+        StepVerifier.create(userRepository.deleteById(saved.getId())
+                        .then(userRepository.findByEmail(saved.getEmail())))
+                .verifyComplete();
+        assertEquals(0L, countOnAllShards(saved.getId()));
+    }
+
+    @Test
+    void createUser_ShouldWriteUserAndOutboxMessageOnTheHomeShard() {
+        User created = userService.createUser(newUser()).block();
+
+        int home = shards.shardOf(created.getId());
+        assertEquals(1L, countOnShard(home, created.getId()));
+        Long queued = Sharding.onShard(home, databaseClient
+                .sql("SELECT COUNT(*) FROM notification_outbox WHERE recipient = :email")
+                .bind("email", created.getEmail())
+                .map(row -> row.get(0, Long.class))
+                .one()).block();
+        assertEquals(1L, queued);
+    }
+
+    @Test
+    void roleAssignments_ShouldBeColocatedWithTheirUser() {
+        Long roleIdsOnHomeShard = Sharding.onShard(shards.shardOf(6L), databaseClient
+                .sql("SELECT COUNT(*) FROM user_roles WHERE user_id = 6")
+                .map(row -> row.get(0, Long.class))
+                .one()).block();
+        assertEquals(2L, roleIdsOnHomeShard);
+
+        StepVerifier.create(roleRepository.findByUserId(6L).map(Role::getName).sort())
+                .expectNext("ADMIN", "USER")
+                .verifyComplete();
+    }
+
+    @Test
+    void findUsersWithRoles_ShouldMergePagesAndResolveRoleNames() {
+        StepVerifier.create(userRoleRepository.findUsersWithRoles(4L, 2))
+                .expectNextMatches(row -> row.userId() == 5L && row.roleName().equals("USER"))
+                .expectNextMatches(row -> row.userId() == 6L && row.roleName().equals("ADMIN"))
+                .expectNextMatches(row -> row.userId() == 6L && row.roleName().equals("USER"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findUsersWithRoles_ShouldLimitUsersAcrossShards() {
+        StepVerifier.create(userRoleRepository.findUsersWithRoles(0L, 3)
+                        .map(UserRoleRow::userId)
+                        .distinct())
+                .expectNext(1L, 2L, 3L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findAll_WithSort_ShouldMergeShardsInSortOrder() {
+        Comparator<User> expected = Comparator.comparing(User::getDepartment, Comparator.reverseOrder())
+                .thenComparing(User::getName)
+                .thenComparing(User::getId);
+
+        StepVerifier.create(userRepository.findAll(Sort.by(Sort.Order.desc("department"), Sort.Order.asc("name")))
+                        .collectList())
+                .expectNextMatches(users -> users.size() >= 6 && users.equals(users.stream().sorted(expected).toList()))
+                .verifyComplete();
+    }
+
+    @Test
+    void queryByExample_ShouldScatterToEveryShard() {
+        User probe = new User();
+        probe.setDepartment("Engineering");
+        Example<User> engineering = Example.of(probe);
+
+        // John Doe (1) and Bob Johnson (3)
+        StepVerifier.create(userRepository.findAll(engineering).map(User::getId))
+                .expectNext(1L, 3L)
+                .verifyComplete();
+        StepVerifier.create(userRepository.count(engineering)).expectNext(2L).verifyComplete();
+        StepVerifier.create(userRepository.exists(engineering)).expectNext(true).verifyComplete();
+        StepVerifier.create(userRepository.findOne(engineering))
+                .expectError(IncorrectResultSizeDataAccessException.class)
+                .verify();
+        StepVerifier.create(userRepository.findBy(engineering, query -> query.sortBy(Sort.by("name")).first())
+                        .map(User::getName))
+                .expectNext("Bob Johnson")
+                .verifyComplete();
+        StepVerifier.create(userRepository.findBy(engineering, query -> query.as(UserSummary.class).all()))
+                .expectError(InvalidDataAccessApiUsageException.class)
+                .verify();
+    }
+
+    @Test
+    void userRoleIdOperations_ShouldEmitAnError_InsteadOfThrowing() {
+        StepVerifier.create(userRoleRepository.findById(1L))
+                .expectError(InvalidDataAccessApiUsageException.class)
+                .verify();
+        StepVerifier.create(userRoleRepository.deleteById(1L))
+                .expectError(InvalidDataAccessApiUsageException.class)
+                .verify();
+        StepVerifier.create(userRoleRepository.findAllById(List.of(1L, 2L)))
+                .expectError(InvalidDataAccessApiUsageException.class)
+                .verify();
+    }
+
+    private static User newUser() {
+        String email = "shard" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        return new User("Sharded User", email, "password", "Testing");
+    }
+
+    private long countOnShard(int shard, long id) {
+        return Sharding.onShard(shard, databaseClient.sql("SELECT COUNT(*) FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one()).block();
+    }
+
+    private long countOnAllShards(long id) {
+        return Flux.fromIterable(shards.shards())
+                .flatMap(shard -> Mono.just(countOnShard(shard, id)))
+                .reduce(0L, Long::sum)
+                .block();
+    }
+}
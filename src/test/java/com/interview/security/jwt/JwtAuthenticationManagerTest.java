@@ -0,0 +1,60 @@
+package com.interview.security.jwt;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JwtAuthenticationManagerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationManager authenticationManager;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "mySecretKey1234567890123456789012345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600L);
+        authenticationManager = new JwtAuthenticationManager(jwtUtil);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+    }
+
+    @Test
+    void authenticate_ShouldGrantRolesAndRecordAcceptedVerification() {
+        // Given
+        String token = jwtUtil.generateToken("admin", List.of("ADMIN"));
+
+        // When & Then
+        StepVerifier.create(authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(token, token)))
+                .expectNextMatches(authentication -> authentication.getName().equals("admin")
+                        && authentication.getAuthorities().stream()
+                                .anyMatch(authority -> authority.getAuthority().equals("ROLE_ADMIN")))
+                .verifyComplete();
+
+        assertEquals(1, registry.get("security.jwt.verification").tag("outcome", "accepted").timer().count());
+    }
+
+    @Test
+    void authenticate_ShouldBeEmptyAndRecordRejectedVerification_WhenTokenIsInvalid() {
+        // When & Then
+        StepVerifier.create(authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken("garbage", "garbage")))
+                .verifyComplete();
+
+        assertEquals(1, registry.get("security.jwt.verification").tag("outcome", "rejected").timer().count());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.interview.security.repository;
+
+import com.interview.security.model.UserRoleRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.test.context.TestPropertySource;
+import reactor.test.StepVerifier;
+
+@DataR2dbcTest
+@TestPropertySource(properties = {
+    "spring.r2dbc.url=r2dbc:h2:mem:///testdb-user-roles",
+    "spring.sql.init.mode=always"
+})
+class UserRoleRepositoryTest {
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Test
+    void findRoleIdsByUserId_ShouldReturnSortedRoleIds() {
+        StepVerifier.create(userRoleRepository.findRoleIdsByUserId(6L))
+                .expectNext(1L, 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findUsersWithRoles_ShouldReturnOneRowPerUserRolePair() {
+        // Users 5 and 6 from data.sql: user 6 holds ADMIN and USER
+        StepVerifier.create(userRoleRepository.findUsersWithRoles(4L, 2).map(UserRoleRow::userId))
+                .expectNext(5L, 6L, 6L)
+                .verifyComplete();
+    }
+
+    @Test
+    void findUsersWithRoles_ShouldLimitUsersNotRows() {
+        StepVerifier.create(userRoleRepository.findUsersWithRoles(5L, 1).collectList())
+                .expectNextMatches(rows -> rows.size() == 2 &&
+                        rows.get(0).roleName().equals("ADMIN") &&
+                        rows.get(1).roleName().equals("USER") &&
+                        rows.get(0).email().equals("admin@company.com"))
+                .verifyComplete();
+    }
+}
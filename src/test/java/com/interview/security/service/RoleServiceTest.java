@@ -0,0 +1,60 @@
+package com.interview.security.service;
+
+import com.interview.security.model.UserRoleRow;
+import com.interview.security.repository.RoleRepository;
+import com.interview.security.repository.UserRoleRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleServiceTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private UserRoleRepository userRoleRepository;
+
+    @InjectMocks
+    private RoleService roleService;
+
+    @Test
+    void getUsersWithRoles_ShouldGroupAdjacentRowsPerUser() {
+        // Given
+        when(userRoleRepository.findUsersWithRoles(0L, 2)).thenReturn(Flux.just(
+                new UserRoleRow(1L, "John Doe", "john@example.com", "Engineering", true, 2L, "USER", "Regular"),
+                new UserRoleRow(2L, "Admin", "admin@example.com", "IT", true, 1L, "ADMIN", "Administrator"),
+                new UserRoleRow(2L, "Admin", "admin@example.com", "IT", true, 2L, "USER", "Regular")));
+
+        // When & Then
+        StepVerifier.create(roleService.getUsersWithRoles(0L, 2))
+                .expectNextMatches(user -> user.id().equals(1L) && user.roles().size() == 1)
+                .expectNextMatches(user -> user.id().equals(2L) && user.roles().size() == 2 &&
+                        user.roles().get(0).getName().equals("ADMIN"))
+                .verifyComplete();
+
+        verify(userRoleRepository).findUsersWithRoles(0L, 2);
+        verifyNoInteractions(roleRepository);
+    }
+
+    @Test
+    void getUsersWithRoles_ShouldReturnEmptyRoleList_ForUserWithoutRoles() {
+        // Given
+        when(userRoleRepository.findUsersWithRoles(0L, 1)).thenReturn(Flux.just(
+                new UserRoleRow(7L, "No Roles", "none@example.com", "Sales", true, null, null, null)));
+
+        // When & Then
+        StepVerifier.create(roleService.getUsersWithRoles(0L, 1))
+                .expectNextMatches(user -> user.id().equals(7L) && user.roles().isEmpty())
+                .verifyComplete();
+    }
+}
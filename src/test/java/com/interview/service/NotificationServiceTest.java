@@ -1,20 +1,45 @@
 package com.interview.service;
 
+import com.interview.service.notification.InProcessNotificationProvider;
+import com.interview.service.notification.Notification;
+import com.interview.service.notification.NotificationCoalescer;
+import com.interview.service.notification.NotificationDispatcher;
+import com.interview.service.notification.NotificationTemplates;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
-@ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
-    @InjectMocks
     private NotificationService notificationService;
 
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+        // Instant, always-succeeding provider without a rate limit or coalescing window
+        NotificationDispatcher dispatcher = new NotificationDispatcher(
+                new InProcessNotificationProvider(Duration.ZERO, 0.0, 2), new NotificationTemplates(Locale.ENGLISH), 0);
+        notificationService = new NotificationService(dispatcher,
+                new NotificationCoalescer(dispatcher, Duration.ZERO, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+    }
+
     @Test
     void sendWelcomeNotification_ShouldReturnSuccessMessage() {
         // Given
@@ -40,6 +65,47 @@ class NotificationServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void sendWelcomeNotifications_ShouldStreamOneResultPerRecipient() {
+        // Given
+        List<String> emails = Arrays.asList(
+                "user1@example.com",
+                "user2@example.com",
+                "user3@example.com"
+        );
+
+        // When & Then
+        StepVerifier.create(notificationService.sendWelcomeNotifications(emails).map(result -> result.recipient()).collectList())
+                .expectNextMatches(recipients -> recipients.containsAll(emails) && recipients.size() == 3)
+                .verifyComplete();
+    }
+
+    @Test
+    void sendWelcomeNotifications_ShouldSendRepeatedAddressesOnce() {
+        // Given
+        List<String> emails = Arrays.asList("user1@example.com", "user1@example.com");
+
+        // When & Then
+        StepVerifier.create(notificationService.sendWelcomeNotifications(emails))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void sendAll_ShouldRecordOneSendTimingPerResult() {
+        // Given
+        List<Notification> notifications = List.of(
+                Notification.welcome("user1@example.com"),
+                new Notification(Notification.ROLE_CHANGED, "user1@example.com"));
+
+        // When & Then
+        StepVerifier.create(notificationService.sendAll(notifications))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        assertEquals(2, registry.get("notifications.send").tag("outcome", "sent").timer().count());
+    }
+
     @Test
     void sendBulkNotifications_ShouldHandleEmptyList() {
         // Given
@@ -0,0 +1,210 @@
+package com.interview.service;
+
+import com.interview.model.OutboxMessage;
+import com.interview.repository.OutboxRepository;
+import com.interview.repository.sharding.UserShards;
+import com.interview.service.notification.DeliveryResult;
+import com.interview.service.notification.InProcessNotificationProvider;
+import com.interview.service.notification.Notification;
+import com.interview.service.notification.NotificationCoalescer;
+import com.interview.service.notification.NotificationDispatcher;
+import com.interview.service.notification.NotificationTemplates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataR2dbcTest
+@TestPropertySource(properties = {
+    "spring.r2dbc.url=r2dbc:h2:mem:///testdb-outbox",
+    "spring.sql.init.mode=always",
+    // Passes are driven by the tests
+    "app.outbox.poll-interval=1h",
+    "app.outbox.batch-size=2",
+    "app.outbox.max-attempts=2"
+})
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectProvider<UserShards> userShards;
+
+    @MockBean
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository.deleteAll().block();
+    }
+
+    @Test
+    void dispatchAll_ShouldSendAndDeleteDueMessages_InSeveralBatches() {
+        // Given - three messages with a batch size of two
+        answerWith(notification -> DeliveryResult.sent(notification, 1));
+        queue("a@example.com", "b@example.com", "c@example.com");
+
+        // When & Then
+        StepVerifier.create(outboxDispatcher.dispatchAll()).verifyComplete();
+
+        // Each claimed batch is handed over whole, not row by row
+        ArgumentCaptor<List<Notification>> batches = ArgumentCaptor.captor();
+        verify(notificationService, times(2)).sendAll(batches.capture());
+        assertEquals(List.of(2, 1), batches.getAllValues().stream().map(List::size).toList());
+        StepVerifier.create(outboxRepository.count()).expectNext(0L).verifyComplete();
+        assertEquals(0L, outboxDispatcher.depth());
+    }
+
+    @Test
+    void dispatchAll_ShouldSendRepeatedRowsOnce_AndDeleteThemAll() {
+        // Given
+        answerWith(notification -> DeliveryResult.sent(notification, 1));
+        queue("twice@example.com", "twice@example.com");
+
+        // When
+        outboxDispatcher.dispatchAll().block();
+
+        // Then
+        verify(notificationService).sendAll(List.of(Notification.welcome("twice@example.com")));
+        StepVerifier.create(outboxRepository.count()).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    void dispatchAll_ShouldSendOnce_WhenRepeatsArriveInSeparatePollsWithinOneWindow() {
+        // Given - the real notification path with a window long enough for a second poll
+        InProcessNotificationProvider provider = new InProcessNotificationProvider(Duration.ZERO, 0.0, 50);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(provider, new NotificationTemplates(Locale.ENGLISH), 0);
+        NotificationCoalescer coalescer = new NotificationCoalescer(dispatcher, Duration.ofMillis(500), 100);
+        OutboxDispatcher coalescing = new OutboxDispatcher(outboxRepository,
+                new NotificationService(dispatcher, coalescer), userShards);
+        queue("repeat@example.com");
+
+        // When - the first poll claims its row and waits for the window; the repeat is queued after that
+        CompletableFuture<Void> firstPoll = coalescing.dispatchAll().toFuture();
+        awaitClaimed();
+        queue("repeat@example.com");
+        coalescing.dispatchAll().block();
+        firstPoll.join();
+
+        // Then
+        assertEquals(1, provider.deliveredCount());
+        assertEquals(1.0, coalescer.coalescedCount());
+        StepVerifier.create(outboxRepository.count()).expectNext(0L).verifyComplete();
+        coalescer.stop();
+    }
+
+    @Test
+    void dispatchAll_ShouldRescheduleFailedMessages_WithBackoff() {
+        // Given
+        answerWith(notification -> DeliveryResult.failed(notification, 1, "SMTP unavailable"));
+        queue("retry@example.com");
+
+        // When
+        outboxDispatcher.dispatchAll().block();
+        // Not due again yet, so a second pass does not resend it
+        outboxDispatcher.dispatchAll().block();
+
+        // Then
+        OutboxMessage message = outboxRepository.findAll().blockFirst();
+        assertEquals(1, message.getAttempts());
+        assertEquals("SMTP unavailable", message.getLastError());
+        assertTrue(message.getAvailableAt().isAfter(LocalDateTime.now()));
+        verify(notificationService, times(1)).sendAll(List.of(Notification.welcome("retry@example.com")));
+        assertEquals(1L, outboxDispatcher.depth());
+    }
+
+    @Test
+    void dispatchAll_ShouldMarkMessageFailed_AfterMaxAttempts() {
+        // Given - already attempted once, max-attempts is two
+        answerWith(notification -> DeliveryResult.failed(notification, 1, "mailbox does not exist"));
+        OutboxMessage message = OutboxMessage.welcome("gone@example.com");
+        message.setAttempts(1);
+        outboxRepository.save(message).block();
+
+        // When
+        outboxDispatcher.dispatchAll().block();
+
+        // Then - kept for inspection but no longer pending
+        OutboxMessage failed = outboxRepository.findAll().blockFirst();
+        assertNotNull(failed.getFailedAt());
+        assertEquals(0L, outboxDispatcher.depth());
+    }
+
+    @Test
+    void claimBatch_ShouldSkipMessagesLeasedByAnotherDispatcher() {
+        // Given
+        queue("one@example.com", "two@example.com", "three@example.com");
+        LocalDateTime now = LocalDateTime.now();
+
+        // When - a first dispatcher leases two rows
+        StepVerifier.create(outboxRepository.claimBatch(UUID.randomUUID().toString(), now, now.plusSeconds(30), 2))
+                .expectNext(2)
+                .verifyComplete();
+
+        // Then - a second one only gets the remaining row
+        String token = UUID.randomUUID().toString();
+        StepVerifier.create(outboxRepository.claimBatch(token, now, now.plusSeconds(30), 2)
+                        .thenMany(outboxRepository.findByClaimToken(token))
+                        .map(OutboxMessage::getRecipient))
+                .expectNext("three@example.com")
+                .verifyComplete();
+    }
+
+    @Test
+    void backoff_ShouldGrowExponentially_UpToTheCap() {
+        Duration first = outboxDispatcher.backoff(1);
+        Duration third = outboxDispatcher.backoff(3);
+        Duration capped = outboxDispatcher.backoff(30);
+
+        assertTrue(first.toMillis() >= 1_000 && first.toMillis() <= 1_200);
+        assertTrue(third.toMillis() >= 4_000 && third.toMillis() <= 4_800);
+        assertTrue(capped.toMillis() >= 300_000 && capped.toMillis() <= 360_000);
+    }
+
+    private void answerWith(Function<Notification, DeliveryResult> outcome) {
+        when(notificationService.sendAll(anyList())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            return Flux.fromIterable(notifications).map(outcome);
+        });
+    }
+
+    private void awaitClaimed() {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (outboxRepository.findAll().filter(message -> message.getClaimToken() == null).hasElements().block()
+                && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void queue(String... recipients) {
+        for (String recipient : List.of(recipients)) {
+            outboxRepository.save(OutboxMessage.welcome(recipient)).block();
+        }
+    }
+}
\ No newline at end of file
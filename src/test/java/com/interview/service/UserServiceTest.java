@@ -1,7 +1,11 @@
 package com.interview.service;
 
+import com.interview.model.OutboxMessage;
 import com.interview.model.User;
+import com.interview.model.UserSummary;
+import com.interview.repository.OutboxRepository;
 import com.interview.repository.UserRepository;
+import com.interview.repository.UserTransactions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,9 +16,11 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,7 +30,10 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private NotificationService notificationService;
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private UserTransactions userTransactions;
 
     @InjectMocks
     private UserService userService;
@@ -44,8 +53,9 @@ class UserServiceTest {
         User savedUser = new User("Jane Doe", "jane@example.com", "Marketing");
         savedUser.setId(2L);
 
+        runTransactionsInline();
         when(userRepository.save(any(User.class))).thenReturn(Mono.just(savedUser));
-        when(notificationService.sendWelcomeNotification(anyString())).thenReturn(Mono.just("Notification sent"));
+        when(outboxRepository.save(any(OutboxMessage.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
         // When & Then
         StepVerifier.create(userService.createUser(newUser))
@@ -53,13 +63,30 @@ class UserServiceTest {
                 .verifyComplete();
 
         verify(userRepository).save(newUser);
-        verify(notificationService).sendWelcomeNotification("jane@example.com");
+        verify(outboxRepository).save(argThat(message ->
+                message.getType().equals(OutboxMessage.WELCOME) && message.getRecipient().equals("jane@example.com")));
+    }
+
+    @Test
+    void createUser_ShouldNotQueueNotification_WhenInsertFails() {
+        // Given
+        User newUser = new User("Jane Doe", "jane@example.com", "Marketing");
+        runTransactionsInline();
+        when(userRepository.save(any(User.class))).thenReturn(Mono.error(new RuntimeException("Duplicate email")));
+
+        // When & Then
+        StepVerifier.create(userService.createUser(newUser))
+                .expectError(RuntimeException.class)
+                .verify();
+
+        verify(outboxRepository, never()).save(any(OutboxMessage.class));
     }
 
     @Test
     void createUser_ShouldHandleError() {
         // Given
         User newUser = new User("Jane Doe", "jane@example.com", "Marketing");
+        runTransactionsInline();
         when(userRepository.save(any(User.class))).thenReturn(Mono.error(new RuntimeException("Database error")));
 
         // When & Then
@@ -71,20 +98,20 @@ class UserServiceTest {
     @Test
     void getUserById_ShouldReturnUser_WhenUserExists() {
         // Given
-        when(userRepository.findById(1L)).thenReturn(Mono.just(testUser));
+        when(userRepository.findSummaryById(1L)).thenReturn(Mono.just(UserSummary.from(testUser)));
 
         // When & Then
         StepVerifier.create(userService.getUserById(1L))
-                .expectNext(testUser)
+                .expectNext(UserSummary.from(testUser))
                 .verifyComplete();
 
-        verify(userRepository).findById(1L);
+        verify(userRepository).findSummaryById(1L);
     }
 
     @Test
     void getUserById_ShouldReturnError_WhenUserNotFound() {
         // Given
-        when(userRepository.findById(anyLong())).thenReturn(Mono.empty());
+        when(userRepository.findSummaryById(anyLong())).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(userService.getUserById(999L))
@@ -130,15 +157,16 @@ class UserServiceTest {
         User user2 = new User("Jane Smith", "jane@example.com", "Marketing");
         user2.setId(2L);
         
-        when(userRepository.findAll()).thenReturn(Flux.just(testUser, user2));
+        when(userRepository.findAllSummaries())
+                .thenReturn(Flux.just(UserSummary.from(testUser), UserSummary.from(user2)));
 
         // When & Then
         StepVerifier.create(userService.getAllUsers())
-                .expectNext(testUser)
-                .expectNext(user2)
+                .expectNext(UserSummary.from(testUser))
+                .expectNext(UserSummary.from(user2))
                 .verifyComplete();
 
-        verify(userRepository).findAll();
+        verify(userRepository).findAllSummaries();
     }
 
     @Test
@@ -147,29 +175,30 @@ class UserServiceTest {
         User engineeringUser = new User("Bob Johnson", "bob@example.com", "Engineering");
         engineeringUser.setId(3L);
         
-        when(userRepository.findByDepartment("Engineering"))
-                .thenReturn(Flux.just(testUser, engineeringUser));
+        when(userRepository.findSummariesByDepartment("Engineering"))
+                .thenReturn(Flux.just(UserSummary.from(testUser), UserSummary.from(engineeringUser)));
 
         // When & Then
         StepVerifier.create(userService.getUsersByDepartment("Engineering"))
-                .expectNext(testUser)
-                .expectNext(engineeringUser)
+                .expectNext(UserSummary.from(testUser))
+                .expectNext(UserSummary.from(engineeringUser))
                 .verifyComplete();
 
-        verify(userRepository).findByDepartment("Engineering");
+        verify(userRepository).findSummariesByDepartment("Engineering");
     }
 
     @Test
     void searchUsersByName_ShouldReturnMatchingUsers() {
         // Given
-        when(userRepository.findByNamePattern("%John%")).thenReturn(Flux.just(testUser));
+        when(userRepository.findSummariesByNamePattern("%John%"))
+                .thenReturn(Flux.just(UserSummary.from(testUser)));
 
         // When & Then
         StepVerifier.create(userService.searchUsersByName("John"))
-                .expectNext(testUser)
+                .expectNext(UserSummary.from(testUser))
                 .verifyComplete();
 
-        verify(userRepository).findByNamePattern("%John%");
+        verify(userRepository).findSummariesByNamePattern("%John%");
     }
 
     @Test
@@ -178,8 +207,8 @@ class UserServiceTest {
         User user2 = new User("Alice Brown", "alice@example.com", "Engineering");
         user2.setId(2L);
         
-        when(userRepository.findByDepartment("Engineering"))
-                .thenReturn(Flux.just(testUser, user2));
+        when(userRepository.findSummariesByDepartment("Engineering"))
+                .thenReturn(Flux.just(UserSummary.from(testUser), UserSummary.from(user2)));
 
         // When & Then
         StepVerifier.create(userService.getUserEmailsByDepartment("Engineering"))
@@ -215,4 +244,45 @@ class UserServiceTest {
                 )
                 .verifyComplete();
     }
+
+    @Test
+    void getUsersByIds_ShouldPreserveRequestOrderAndReportMissingIds() {
+        // Given
+        User user2 = new User("Jane Smith", "jane@example.com", "Marketing");
+        user2.setId(2L);
+        
+        when(userRepository.findSummariesByIdIn(List.of(2L, 99L, 1L)))
+                .thenReturn(Flux.just(UserSummary.from(testUser), UserSummary.from(user2)));
+
+        // When & Then
+        StepVerifier.create(userService.getUsersByIds(List.of(2L, 99L, 1L, 2L)))
+                .expectNextMatches(response ->
+                        response.users().equals(List.of(UserSummary.from(user2), UserSummary.from(testUser))) &&
+                        response.missingIds().equals(List.of(99L)))
+                .verifyComplete();
+
+        verify(userRepository, times(1)).findSummariesByIdIn(any());
+    }
+
+    @Test
+    void streamUsersByIds_ShouldQueryInChunks() {
+        // Given
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, UserService.STREAM_CHUNK_SIZE + 1)
+                .boxed()
+                .toList();
+        when(userRepository.findSummariesByIdIn(any())).thenReturn(Flux.just(UserSummary.from(testUser)));
+
+        // When & Then
+        StepVerifier.create(userService.streamUsersByIds(ids))
+                .expectNext(UserSummary.from(testUser))
+                .verifyComplete();
+
+        verify(userRepository, times(2)).findSummariesByIdIn(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runTransactionsInline() {
+        when(userTransactions.inTransactionForNewUser(any(User.class), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<?>>) invocation.getArgument(1)).get());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.interview.service.notification;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NotificationCoalescerTest {
+
+    private final InProcessNotificationProvider provider = new InProcessNotificationProvider(Duration.ZERO, 0.0, 50);
+    private final NotificationDispatcher dispatcher = new NotificationDispatcher(provider, new NotificationTemplates(Locale.ENGLISH), 0);
+
+    @Test
+    void repeatsWithinWindow_ShouldShareOneSend() {
+        // Given
+        NotificationCoalescer coalescer = new NotificationCoalescer(dispatcher, Duration.ofMillis(50), 100);
+        Notification welcome = Notification.welcome("john@example.com");
+
+        // When & Then
+        StepVerifier.create(Mono.zip(coalescer.submit(welcome), coalescer.submit(welcome), coalescer.submit(welcome)))
+                .expectNextMatches(results -> results.getT1().sent() && results.getT1() == results.getT2()
+                        && results.getT2() == results.getT3())
+                .verifyComplete();
+
+        assertEquals(1, provider.deliveredCount());
+        assertEquals(2.0, coalescer.coalescedCount());
+        assertEquals(0, coalescer.pendingRecipients());
+    }
+
+    @Test
+    void differentTypesForSameRecipient_ShouldEachBeSent() {
+        // Given
+        NotificationCoalescer coalescer = new NotificationCoalescer(dispatcher, Duration.ofMillis(50), 100);
+
+        // When & Then
+        StepVerifier.create(Mono.zip(
+                        coalescer.submit(Notification.welcome("john@example.com")),
+                        coalescer.submit(new Notification("ROLE_CHANGED", "john@example.com"))))
+                .expectNextMatches(results -> results.getT1().sent() && results.getT2().sent())
+                .verifyComplete();
+
+        assertEquals(2, provider.deliveredCount());
+        assertEquals(0.0, coalescer.coalescedCount());
+    }
+
+    @Test
+    void windowsClosingTogether_ShouldShareOneProviderBatch() {
+        // Given
+        InProcessNotificationProvider batching = spy(new InProcessNotificationProvider(Duration.ZERO, 0.0, 50));
+        NotificationCoalescer coalescer = new NotificationCoalescer(
+                new NotificationDispatcher(batching, new NotificationTemplates(Locale.ENGLISH), 0), Duration.ofMillis(50), 100);
+
+        // When & Then
+        StepVerifier.create(Mono.zip(
+                        coalescer.submit(Notification.welcome("john@example.com")),
+                        coalescer.submit(Notification.welcome("jane@example.com"))))
+                .expectNextMatches(results -> results.getT1().sent() && results.getT2().sent())
+                .verifyComplete();
+
+        verify(batching, times(1)).send(anyList());
+        assertEquals(2, batching.deliveredCount());
+        coalescer.stop();
+    }
+
+    @Test
+    void submit_ShouldOpenANewWindow_AfterPreviousOneClosed() {
+        // Given
+        NotificationCoalescer coalescer = new NotificationCoalescer(dispatcher, Duration.ofMillis(20), 100);
+        Notification welcome = Notification.welcome("john@example.com");
+
+        // When & Then
+        StepVerifier.create(coalescer.submit(welcome)).expectNextMatches(DeliveryResult::sent).verifyComplete();
+        StepVerifier.create(coalescer.submit(welcome)).expectNextMatches(DeliveryResult::sent).verifyComplete();
+
+        assertEquals(2, provider.deliveredCount());
+    }
+
+    @Test
+    void submit_ShouldSendImmediately_WhenTooManyRecipientsArePending() {
+        // Given
+        NotificationCoalescer coalescer = new NotificationCoalescer(dispatcher, Duration.ofHours(1), 1);
+        coalescer.submit(Notification.welcome("first@example.com")).subscribe();
+
+        // When & Then
+        StepVerifier.create(coalescer.submit(Notification.welcome("second@example.com")))
+                .expectNextMatches(DeliveryResult::sent)
+                .verifyComplete();
+
+        assertEquals(1, coalescer.pendingRecipients());
+        assertEquals(1, provider.deliveredCount());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.interview.service.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationDispatcherTest {
+
+    private final List<List<RenderedNotification>> batches = new CopyOnWriteArrayList<>();
+    private Function<List<RenderedNotification>, Mono<Void>> behaviour;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        behaviour = batch -> Mono.empty();
+        dispatcher = new NotificationDispatcher(new RecordingProvider(), new NotificationTemplates(Locale.ENGLISH), 0);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoff", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(dispatcher, "maxBackoff", Duration.ofMillis(5));
+    }
+
+    @Test
+    void dispatch_ShouldGroupNotificationsIntoProviderSizedBatches() {
+        // When & Then
+        StepVerifier.create(dispatcher.dispatch(notifications(5)))
+                .expectNextCount(5)
+                .verifyComplete();
+
+        assertEquals(3, batches.size());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+        assertTrue(batches.get(0).get(0).body().contains("user1@example.com"));
+    }
+
+    @Test
+    void dispatch_ShouldRetryTransientFailures() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        behaviour = batch -> calls.incrementAndGet() == 1
+                ? Mono.error(new TransientDeliveryException("throttled"))
+                : Mono.empty();
+
+        // When & Then
+        StepVerifier.create(dispatcher.dispatch(notifications(1)))
+                .expectNextMatches(result -> result.sent() && result.attempts() == 2)
+                .verifyComplete();
+    }
+
+    @Test
+    void dispatch_ShouldReportFailures_WithoutRetryingPermanentErrors() {
+        // Given
+        behaviour = batch -> Mono.error(new IllegalArgumentException("invalid address"));
+
+        // When & Then
+        StepVerifier.create(dispatcher.dispatch(notifications(2)))
+                .expectNextMatches(result -> !result.sent() && result.attempts() == 1
+                        && result.error().equals("invalid address"))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void dispatch_ShouldFailWithoutCallingProvider_WhenTemplateIsMissing() {
+        // When & Then
+        StepVerifier.create(dispatcher.dispatch(Flux.just(new Notification("UNKNOWN", "john@example.com"))))
+                .expectNextMatches(result -> !result.sent() && result.attempts() == 0)
+                .verifyComplete();
+
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void dispatch_ShouldFailOnlyTheUnrenderableNotification_AndSendTheRestOfItsBatch() {
+        // Given
+        Flux<Notification> notifications = Flux.just(
+                new Notification("UNKNOWN", "john@example.com"),
+                Notification.welcome("jane@example.com"));
+
+        // When & Then
+        StepVerifier.create(dispatcher.dispatch(notifications))
+                .expectNextMatches(result -> result.recipient().equals("john@example.com") && !result.sent()
+                        && result.error().contains("UNKNOWN"))
+                .expectNextMatches(result -> result.recipient().equals("jane@example.com") && result.sent())
+                .verifyComplete();
+
+        assertEquals(1, batches.size());
+        assertEquals(List.of("jane@example.com"), batches.get(0).stream().map(RenderedNotification::recipient).toList());
+    }
+
+    @Test
+    void dispatch_ShouldGiveUpAfterMaxRetries() {
+        // Given
+        ReflectionTestUtils.setField(dispatcher, "maxRetries", 2);
+        behaviour = batch -> Mono.error(new TransientDeliveryException("unavailable"));
+
+        // When & Then
+        StepVerifier.create(dispatcher.dispatch(notifications(1)))
+                .expectNextMatches(result -> !result.sent() && result.attempts() == 3
+                        && result.error().equals("unavailable"))
+                .verifyComplete();
+    }
+
+    @Test
+    void dispatch_ShouldBoundBatchesInFlight() {
+        // Given
+        ReflectionTestUtils.setField(dispatcher, "concurrency", 2);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        behaviour = batch -> Mono.delay(Duration.ofMillis(20))
+                .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .then()
+                // Before the completion signal, which lets the next batch start
+                .doOnTerminate(inFlight::decrementAndGet);
+
+        // When & Then
+        StepVerifier.create(dispatcher.dispatch(notifications(12)))
+                .expectNextCount(12)
+                .verifyComplete();
+
+        assertEquals(2, maxInFlight.get());
+    }
+
+    private static Flux<Notification> notifications(int count) {
+        return Flux.range(1, count).map(i -> Notification.welcome("user" + i + "@example.com"));
+    }
+
+    private class RecordingProvider implements NotificationProvider {
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public int maxBatchSize() {
+            return 2;
+        }
+
+        @Override
+        public Mono<Void> send(List<RenderedNotification> batch) {
+            return Mono.defer(() -> {
+                batches.add(batch);
+                return behaviour.apply(batch);
+            });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.interview.service.notification;
+
+import com.interview.model.ScheduledNotification;
+import com.interview.repository.OutboxRepository;
+import com.interview.repository.ScheduledNotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataR2dbcTest
+@TestPropertySource(properties = {
+    "spring.r2dbc.url=r2dbc:h2:mem:///testdb-scheduler",
+    "spring.sql.init.mode=always",
+    "app.notifications.scheduler.tick-duration=10ms",
+    "app.notifications.scheduler.horizon=1h",
+    // Leave queued rows in the outbox for the assertions
+    "app.outbox.poll-interval=1h"
+})
+class NotificationSchedulerTest {
+
+    @Autowired
+    private NotificationScheduler notificationScheduler;
+
+    @Autowired
+    private ScheduledNotificationRepository scheduledRepository;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        scheduledRepository.deleteAll().then(outboxRepository.deleteAll()).block();
+    }
+
+    @Test
+    void schedule_ShouldMoveNotificationToOutbox_WhenDue() {
+        // When
+        notificationScheduler.schedule(reminder(Duration.ofMillis(200))).block();
+
+        // Then
+        awaitOutboxCount(1);
+        StepVerifier.create(scheduledRepository.count()).expectNext(0L).verifyComplete();
+        StepVerifier.create(outboxRepository.findAll())
+                .expectNextMatches(message -> message.getType().equals(Notification.PASSWORD_RESET)
+                        && message.getRecipient().equals("john@example.com"))
+                .verifyComplete();
+        assertEquals(0, notificationScheduler.armedCount());
+    }
+
+    @Test
+    void schedule_ShouldReject_WhenTypeHasNoTemplate() {
+        // When & Then
+        StepVerifier.create(notificationScheduler.schedule(
+                        new ScheduledNotification("REMINDER", "john@example.com", LocalDateTime.now().plusHours(1))))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(scheduledRepository.count()).expectNext(0L).verifyComplete();
+    }
+
+    @Test
+    void cancel_ShouldPreventSend() {
+        // Given
+        ScheduledNotification scheduled = notificationScheduler.schedule(reminder(Duration.ofMillis(300))).block();
+
+        // When & Then
+        StepVerifier.create(notificationScheduler.cancel(scheduled.getId())).expectNext(true).verifyComplete();
+        assertEquals(0, notificationScheduler.armedCount());
+
+        StepVerifier.create(Mono.delay(Duration.ofMillis(500)).then(outboxRepository.count()))
+                .expectNext(0L)
+                .verifyComplete();
+        StepVerifier.create(notificationScheduler.cancel(scheduled.getId())).expectNext(false).verifyComplete();
+    }
+
+    @Test
+    void schedule_ShouldOnlyPersist_WhenBeyondHorizon() {
+        // When
+        notificationScheduler.schedule(reminder(Duration.ofHours(2))).block();
+
+        // Then
+        assertEquals(0, notificationScheduler.armedCount());
+        StepVerifier.create(scheduledRepository.count()).expectNext(1L).verifyComplete();
+    }
+
+    @Test
+    void start_ShouldFireNotificationsThatBecameDueWhileStopped() {
+        // Given - a row persisted while the scheduler was not running
+        notificationScheduler.stop();
+        ScheduledNotification overdue = reminder(Duration.ofMinutes(-5));
+        overdue.setCreatedAt(LocalDateTime.now().minusMinutes(10));
+        scheduledRepository.save(overdue).block();
+
+        // When
+        notificationScheduler.start();
+
+        // Then
+        awaitOutboxCount(1);
+        StepVerifier.create(scheduledRepository.count()).expectNext(0L).verifyComplete();
+    }
+
+    private static ScheduledNotification reminder(Duration dueIn) {
+        return new ScheduledNotification(Notification.PASSWORD_RESET, "john@example.com", LocalDateTime.now().plus(dueIn));
+    }
+
+    private void awaitOutboxCount(long expected) {
+        StepVerifier.create(outboxRepository.count()
+                        .filter(count -> count == expected)
+                        .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(20)))
+                        .timeout(Duration.ofSeconds(5)))
+                .expectNext(expected)
+                .verifyComplete();
+    }
+}
\ No newline at end of file
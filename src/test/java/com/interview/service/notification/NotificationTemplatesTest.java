@@ -0,0 +1,62 @@
+package com.interview.service.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationTemplatesTest {
+
+    private final NotificationTemplates templates = new NotificationTemplates(Locale.ENGLISH);
+
+    @Test
+    void compile_ShouldSubstituteVariablesAndKeepLiterals() {
+        CompiledTemplate template = CompiledTemplate.compile("Hi {{ name }}, you are {{role}}.{{missing}} Bye {{");
+        Map<String, String> values = Map.of("name", "John", "role", "ADMIN");
+
+        assertEquals("Hi John, you are ADMIN. Bye {{", template.render(values::get));
+    }
+
+    @Test
+    void renderTo_ShouldAppendToReusedBuffer() {
+        CompiledTemplate template = CompiledTemplate.compile("Hello {{recipient}}");
+        StringBuilder buffer = new StringBuilder();
+
+        template.renderTo(buffer, name -> "a@example.com");
+        buffer.setLength(0);
+        template.renderTo(buffer, name -> "b@example.com");
+
+        assertEquals("Hello b@example.com", buffer.toString());
+    }
+
+    @Test
+    void get_ShouldFallBackFromCountryToLanguageToDefault() {
+        StringBuilder german = new StringBuilder();
+        templates.renderTo(german, new Notification(Notification.WELCOME, "john@example.com", Locale.GERMANY));
+        StringBuilder french = new StringBuilder();
+        templates.renderTo(french, new Notification(Notification.WELCOME, "john@example.com", Locale.FRENCH));
+
+        assertTrue(german.toString().startsWith("Willkommen"));
+        assertTrue(german.toString().contains("john@example.com"));
+        assertTrue(french.toString().startsWith("Welcome"));
+    }
+
+    @Test
+    void get_ShouldCacheCompiledTemplatesPerTypeAndLocale() {
+        CompiledTemplate first = templates.get(Notification.ROLE_CHANGED, null);
+
+        assertSame(first, templates.get(Notification.ROLE_CHANGED, Locale.ENGLISH));
+        templates.get(Notification.ROLE_CHANGED, Locale.GERMAN);
+        assertEquals(2, templates.cachedCount());
+    }
+
+    @Test
+    void get_ShouldReject_WhenNoTemplateExists() {
+        assertThrows(IllegalArgumentException.class, () -> templates.get("UNKNOWN", Locale.ENGLISH));
+    }
+}
\ No newline at end of file
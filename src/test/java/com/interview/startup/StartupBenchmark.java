@@ -0,0 +1,162 @@
+package com.interview.startup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Startup benchmark: launches each build of the application as a separate process
+ * and measures time-to-first-request (process start until {@code /actuator/health}
+ * answers 200) and the resident set size at that point.
+ *
+ * Variants, each skipped when its build output is missing:
+ * - {@code jar}: the plain {@code spring-boot-maven-plugin} jar ({@code mvn package})
+ * - {@code aot-cds}: AOT-processed classes with the class-data-sharing archive
+ *   ({@code mvn package -Pfast-startup})
+ * - {@code native}: the GraalVM native executable ({@code mvn -Pnative native:compile})
+ *
+ * Not part of the test suite; run it with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.interview.startup.StartupBenchmark}
+ *
+ * Settings (system properties):
+ * - {@code startup.runs} (5) launches per variant; the median and best are reported
+ * - {@code startup.timeout} (60) seconds to wait for the first response
+ * - {@code startup.report-dir} (target/startup)
+ *
+ * RSS is read from {@code /proc}, so it is only reported on Linux.
+ */
+public class StartupBenchmark {
+
+    private static final Path TARGET = Path.of("target");
+    private static final String ARTIFACT = "spring-reactive-demo-1.0.0";
+
+    private static final List<String> APP_ARGS = List.of(
+            "--spring.main.banner-mode=off",
+            "--logging.level.root=WARN",
+            "--logging.level.com.interview=WARN",
+            "--logging.level.org.springframework.r2dbc=WARN",
+            "--logging.level.io.r2dbc.h2=WARN",
+            "--logging.level.org.springframework.security=WARN",
+            "--app.monitoring.executor-lag.enabled=false");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final Duration timeout = Duration.ofSeconds(Integer.getInteger("startup.timeout", 60));
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        Path reportDir = Path.of(System.getProperty("startup.report-dir", "target/startup"));
+
+        StartupBenchmark benchmark = new StartupBenchmark();
+        List<String> rows = new ArrayList<>();
+        rows.add("variant,runs,median_ms,best_ms,median_rss_mb");
+        System.out.printf("%-8s %5s %11s %9s %14s%n", "variant", "runs", "median (ms)", "best (ms)", "median RSS (MB)");
+        for (Variant variant : variants()) {
+            if (!Files.exists(variant.artifact())) {
+                System.out.println(variant.name() + ": skipped, " + variant.artifact() + " not built");
+                continue;
+            }
+            List<Long> millis = new ArrayList<>();
+            List<Long> rssKb = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                long[] sample = benchmark.launch(variant);
+                millis.add(sample[0]);
+                rssKb.add(sample[1]);
+            }
+            millis.sort(null);
+            rssKb.sort(null);
+            long medianMillis = millis.get(runs / 2);
+            long medianRssMb = rssKb.get(runs / 2) / 1024;
+            System.out.printf("%-8s %5d %11d %9d %14s%n", variant.name(), runs, medianMillis, millis.get(0),
+                    medianRssMb > 0 ? medianRssMb : "n/a");
+            rows.add(variant.name() + "," + runs + "," + medianMillis + "," + millis.get(0) + "," + medianRssMb);
+        }
+
+        Files.createDirectories(reportDir);
+        Files.write(reportDir.resolve("summary.csv"), rows);
+        System.out.println("Report written to " + reportDir.toAbsolutePath());
+    }
+
+    private static List<Variant> variants() {
+        Path fastStartup = TARGET.resolve("fast-startup");
+        return List.of(
+                new Variant("jar", TARGET.resolve(ARTIFACT + ".jar"), TARGET,
+                        List.of("java", "-jar", ARTIFACT + ".jar")),
+                new Variant("aot-cds", fastStartup.resolve("application.jsa"), fastStartup,
+                        // Run from the training run's directory so the archived class path matches
+                        List.of("java", "-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true",
+                                "-jar", ARTIFACT + "-fast-startup.jar")),
+                new Variant("native", TARGET.resolve("spring-reactive-demo"), TARGET,
+                        List.of("./spring-reactive-demo")));
+    }
+
+    /**
+     * Starts one process and returns {time-to-first-request in ms, RSS in KB}.
+     */
+    private long[] launch(Variant variant) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>(variant.command());
+        command.add("--server.port=" + port);
+        command.addAll(APP_ARGS);
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                .timeout(Duration.ofMillis(500))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(variant.workingDir().toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(variant.name() + " exited with " + process.exitValue());
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+                        return new long[] {millis, rssKb(process.pid())};
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(variant.name() + " did not answer within " + timeout.toSeconds() + "s");
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static long rssKb(long pid) throws IOException {
+        Path status = Path.of("/proc/" + pid + "/status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return 0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Variant(String name, Path artifact, Path workingDir, List<String> command) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.interview.support;
+
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void reserve_ShouldSpacePermitsEvenly() {
+        RateLimiter limiter = new RateLimiter(10, now::get);
+
+        assertEquals(0, limiter.reserve(1));
+        assertEquals(100_000_000L, limiter.reserve(5));
+        assertEquals(600_000_000L, limiter.reserve(1));
+    }
+
+    @Test
+    void reserve_ShouldNotAccumulateBurstWhileIdle() {
+        RateLimiter limiter = new RateLimiter(10, now::get);
+        limiter.reserve(1);
+
+        now.addAndGet(10_000_000_000L);
+
+        assertEquals(0, limiter.reserve(1));
+        assertEquals(100_000_000L, limiter.reserve(1));
+    }
+
+    @Test
+    void acquire_ShouldNotWait_WhenDisabled() {
+        RateLimiter limiter = new RateLimiter(0, now::get);
+
+        assertEquals(0, limiter.reserve(1_000));
+        StepVerifier.create(limiter.acquire(1_000)).verifyComplete();
+    }
+}
\ No newline at end of file
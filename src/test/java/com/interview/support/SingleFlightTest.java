@@ -0,0 +1,143 @@
+package com.interview.support;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private SingleFlight<Long, String> singleFlight;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>("test", new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentLookups_ShouldShareOneLoad() {
+        Sinks.One<String> result = Sinks.one();
+
+        Mono<String> first = singleFlight.execute(1L, () -> load(result.asMono()));
+        Mono<String> second = singleFlight.execute(1L, () -> load(result.asMono()));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> result.tryEmitValue("user-1"))
+                .expectNextMatches(tuple -> tuple.getT1().equals("user-1") && tuple.getT2().equals("user-1"))
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, singleFlight.coalescedCount());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void differentKeys_ShouldNotBeCoalesced() {
+        StepVerifier.create(Mono.zip(
+                        singleFlight.execute(1L, () -> load(Mono.just("a"))),
+                        singleFlight.execute(2L, () -> load(Mono.just("b")))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(2, loads.get());
+        assertEquals(0.0, singleFlight.coalescedCount());
+    }
+
+    @Test
+    void sequentialLookups_ShouldNotCacheResults() {
+        StepVerifier.create(singleFlight.execute(1L, () -> load(Mono.just("a")))).expectNext("a").verifyComplete();
+        StepVerifier.create(singleFlight.execute(1L, () -> load(Mono.just("b")))).expectNext("b").verifyComplete();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void errors_ShouldFanOutAndReleaseKey() {
+        Sinks.One<String> result = Sinks.one();
+
+        Mono<String> first = singleFlight.execute(1L, () -> load(result.asMono()));
+        Mono<String> second = singleFlight.execute(1L, () -> load(result.asMono()));
+
+        StepVerifier.create(Mono.zipDelayError(first.onErrorReturn("failed"), second.onErrorReturn("failed")))
+                .then(() -> result.tryEmitError(new RuntimeException("db down")))
+                .expectNextMatches(tuple -> tuple.getT1().equals("failed") && tuple.getT2().equals("failed"))
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void cancellingOneCaller_ShouldNotCancelTheOthers() {
+        Sinks.One<String> result = Sinks.one();
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Mono<String> source = result.asMono().doOnCancel(() -> upstreamCancelled.set(true));
+
+        Disposable first = singleFlight.execute(1L, () -> load(source)).subscribe();
+        StepVerifier.create(singleFlight.execute(1L, () -> load(source)))
+                .then(first::dispose)
+                .then(() -> result.tryEmitValue("user-1"))
+                .expectNext("user-1")
+                .verifyComplete();
+
+        assertFalse(upstreamCancelled.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void cancellingAllCallers_ShouldCancelLoadAndReleaseKey() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        Mono<String> never = Mono.<String>never().doOnCancel(() -> upstreamCancelled.set(true));
+
+        Disposable first = singleFlight.execute(1L, () -> load(never)).subscribe();
+        Disposable second = singleFlight.execute(1L, () -> load(never)).subscribe();
+        assertEquals(1, singleFlight.inFlightCount());
+
+        first.dispose();
+        assertFalse(upstreamCancelled.get());
+        second.dispose();
+
+        assertTrue(upstreamCancelled.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void callerJoiningAsLoadCompletes_ShouldStillGetTheValue() {
+        // Given - a second caller that picks the flight up after its value was emitted
+        // but before the key is released
+        Sinks.One<String> result = Sinks.one();
+        AtomicReference<String> late = new AtomicReference<>("none");
+        Mono<String> first = singleFlight.execute(1L, () -> load(result.asMono()))
+                .doOnNext(value -> singleFlight.execute(1L, () -> load(Mono.just("second load")))
+                        .defaultIfEmpty("empty")
+                        .subscribe(late::set));
+
+        // When & Then
+        StepVerifier.create(first)
+                .then(() -> result.tryEmitValue("user-1"))
+                .expectNext("user-1")
+                .verifyComplete();
+
+        assertEquals("user-1", late.get());
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private Mono<String> load(Mono<String> source) {
+        loads.incrementAndGet();
+        return source;
+    }
+}
@@ -0,0 +1,48 @@
+package com.interview.warmup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledCodeTest {
+
+    private static final String CODELIST = String.join("\n",
+            "15 4 0 com.interview.service.UserService.getUserById(Ljava/lang/Long;)Lreactor/core/publisher/Mono; [0x1, 0x2 - 0x3]",
+            "16 3 0 com.interview.service.UserService.getUserById(Ljava/lang/Long;)Lreactor/core/publisher/Mono; [0x4, 0x5 - 0x6]",
+            "17 3 0 com.interview.security.jwt.JwtUtil.generateToken(Ljava/lang/String;Ljava/util/List;)Ljava/lang/String; [0x7, 0x8 - 0x9]",
+            // Deoptimized, no longer in use
+            "18 4 2 com.interview.security.jwt.JwtUtil.isTokenValid(Ljava/lang/String;)Z [0xa, 0xb - 0xc]",
+            // Native wrapper
+            "19 0 0 java.lang.Object.hashCode()I [0xd, 0xe - 0xf]",
+            "20 4 0 java.lang.String.hashCode()I [0x10, 0x11 - 0x12]",
+            "");
+
+    @Test
+    void parse_ShouldCountEachInUseMethodOnceAtItsHighestTier() {
+        // Given
+        CompiledCode compiled = CompiledCode.parse(CODELIST);
+
+        // When & Then
+        assertEquals(2, compiled.compiled("com.interview"));
+        assertEquals(1, compiled.optimized("com.interview"));
+        assertEquals(1, compiled.compiled("com.interview.security"));
+        assertEquals(0, compiled.optimized("com.interview.security"));
+        assertEquals(1, compiled.compiled("java.lang"));
+        assertEquals(1, compiled.optimized("java.lang"));
+    }
+
+    @Test
+    void parse_ShouldIgnoreHeadersAndMalformedLines() {
+        CompiledCode compiled = CompiledCode.parse("Compiler.codelist\nnot a code line\n21 x 0 a.B.c()V\n");
+
+        assertEquals(0, compiled.compiled(""));
+    }
+
+    @Test
+    void capture_ShouldListThisJvmsCompiledCode() {
+        CompiledCode compiled = CompiledCode.capture().orElseThrow();
+
+        assertTrue(compiled.compiled("java.lang") > 0);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.interview.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///testdb-warmup",
+        // Debug logging would take up most of the budget
+        "logging.level.com.interview=WARN",
+        "logging.level.org.springframework.r2dbc=WARN",
+        "logging.level.io.r2dbc.h2=WARN",
+        "logging.level.org.springframework.security=WARN",
+        "app.outbox.poll-interval=1h",
+        "app.monitoring.executor-lag.enabled=false",
+        "app.warmup.enabled=true",
+        "app.warmup.budget=3s",
+        "app.warmup.round-requests=50"
+})
+class JitWarmupTest {
+
+    @Autowired
+    private JitWarmup jitWarmup;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Test
+    void warmUp_ShouldRunBeforeTheApplicationIsReady() {
+        // Given - the context has started, so warm-up is over
+        JitWarmup.WarmupReport report = jitWarmup.report();
+
+        // When & Then
+        assertNotNull(report);
+        assertTrue(report.requests() > 0);
+        assertEquals(0, report.errors());
+        assertFalse(report.roundMedians().isEmpty());
+        assertNotNull(report.compiled());
+        assertTrue(report.compiled().compiled("com.interview") > 0);
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState());
+    }
+}
\ No newline at end of file